@@ -0,0 +1,95 @@
+package model;
+import util.Date;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures booking office (D) and imaging (T) appointments into calendars that already hold a
+ * given number of appointments. Each call books one appointment on the free day of the Workload
+ * and cancels it again, so the calendar is the same before every call. The command benchmarks
+ * run the D, T and C commands through the ClinicManager; the core benchmarks call the
+ * SchedulingCore directly, without reading or printing any line.
+ *
+ * @author Gursimar Singh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch"})
+@State(Scope.Thread)
+public class BookingBenchmark {
+    private static final Profile PATIENT = new Profile("Booking", "Bench", new Date(3, 3, 1980));
+
+    @Param({"0", "1000", "10000"})
+    private int appointments;
+
+    private ClinicManager manager;
+    private SchedulingCore core;
+    private Date day;
+    private Doctor doctor;
+    private String bookOffice;
+    private String bookImaging;
+    private String cancel;
+
+    @Setup
+    public void setUp() {
+        Workload workload = new Workload(appointments);
+        manager = workload.getManager();
+        core = workload.getCore();
+        day = workload.getFreeDay();
+        doctor = core.getCatalog().findDoctor("01");
+        String appointment = day + ",1," + PATIENT.getFname() + "," + PATIENT.getLname() + "," + PATIENT.getDob();
+        bookOffice = "D," + appointment + "," + doctor.getNpi();
+        bookImaging = "T," + appointment + ",xray";
+        cancel = "C," + appointment;
+    }
+
+    /**
+     * Books an office appointment with the D command and cancels it with the C command.
+     */
+    @Benchmark
+    public boolean officeCommand() {
+        manager.execute(bookOffice);
+        return manager.execute(cancel);
+    }
+
+    /**
+     * Books an imaging appointment with the T command and cancels it with the C command.
+     */
+    @Benchmark
+    public boolean imagingCommand() {
+        manager.execute(bookImaging);
+        return manager.execute(cancel);
+    }
+
+    /**
+     * Books an office appointment and cancels it through the scheduling core.
+     */
+    @Benchmark
+    public SchedulingCore.Result officeCore() {
+        core.bookOffice(day, Timeslot.SLOTS[0], PATIENT, doctor);
+        return core.cancel(day, Timeslot.SLOTS[0], PATIENT);
+    }
+
+    /**
+     * Books an imaging appointment and cancels it through the scheduling core.
+     */
+    @Benchmark
+    public SchedulingCore.Result imagingCore() {
+        core.bookImaging(day, Timeslot.SLOTS[0], PATIENT, Radiology.XRAY);
+        return core.cancel(day, Timeslot.SLOTS[0], PATIENT);
+    }
+}
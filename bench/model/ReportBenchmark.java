@@ -0,0 +1,62 @@
+package model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the billing statement (PS) and the provider credits (PC) of calendars holding a given
+ * number of appointments, printed into a stream that discards them.
+ * The PS command clears the calendar after printing, so the statement is printed the way the
+ * command prints it, under the core's read lock, and the calendar is kept for the next call.
+ *
+ * @author Gursimar Singh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch"})
+@State(Scope.Thread)
+public class ReportBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int appointments;
+
+    private ClinicManager manager;
+    private SchedulingCore core;
+    private AppointmentRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        Workload workload = new Workload(appointments);
+        manager = workload.getManager();
+        core = workload.getCore();
+        renderer = new AppointmentRenderer(core.getCatalog(), Workload.nullStream());
+    }
+
+    /**
+     * Prints the billing statement ordered by patient.
+     */
+    @Benchmark
+    public void statement() {
+        core.read(store -> renderer.printStatement(store.getLedger()));
+    }
+
+    /**
+     * Prints the credit amounts ordered by provider with the PC command.
+     */
+    @Benchmark
+    public boolean credits() {
+        return manager.execute("PC");
+    }
+}
@@ -0,0 +1,51 @@
+package model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding the slot number of a timeslot, and the timeslot of a slot number.
+ * The twelve timeslots are visited in turn.
+ *
+ * @author Gursimar Singh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch"})
+@State(Scope.Thread)
+public class TimeslotBenchmark {
+    private int next;
+
+    private int nextIndex() {
+        int index = next;
+        next = index == Timeslot.SLOTS.length - 1 ? 0 : index + 1;
+        return index;
+    }
+
+    /**
+     * Finds the slot number of a timeslot.
+     */
+    @Benchmark
+    public int getSlot() {
+        return Timeslot.SLOTS[nextIndex()].getSlot();
+    }
+
+    /**
+     * Finds the timeslot of a slot number.
+     */
+    @Benchmark
+    public Timeslot ofSlot() {
+        return Timeslot.ofSlot(nextIndex() + 1);
+    }
+}
@@ -0,0 +1,154 @@
+package model;
+import util.Date;
+import util.List;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+
+/**
+ * The Workload class builds the clinic the benchmarks run against: the providers of providers.txt
+ * and a calendar filled with a given number of appointments.
+ *
+ * The calendar is filled the same way on every run: the weekdays bookable from today are taken in
+ * order, and every timeslot of a day is given to each doctor and then to each imaging room, until
+ * the requested number of appointments is booked. The patients are a pool of a quarter as many
+ * profiles, used in turn, so every patient has several appointments to bill. The last bookable day
+ * is never filled, so a benchmark can always book on it.
+ *
+ * Only the dates move with the day the benchmark is run on; the appointments, their order and
+ * every listing are otherwise the same.
+ *
+ * @author Gursimar Singh
+ */
+public class Workload {
+    private static final Date PATIENT_BIRTH_DATE = new Date(6, 15, 1985);
+
+    private final ClinicManager manager;
+    private final SchedulingCore core;
+    private final List<Date> days;
+    private int booked;
+
+    /**
+     * Creates a clinic with the providers of providers.txt and fills its calendar.
+     *
+     * @param appointments The number of appointments to book.
+     * @throws IllegalArgumentException if the calendar cannot hold that many appointments.
+     */
+    public Workload(int appointments) {
+        manager = new ClinicManager(nullStream());
+        core = manager.getCore();
+        days = bookableDays();
+        fill(appointments);
+        if (booked < appointments) {
+            throw new IllegalArgumentException("The calendar holds only " + booked + " appointments.");
+        }
+    }
+
+    /**
+     * Returns a stream every listing is discarded into.
+     *
+     * @return The stream.
+     */
+    public static PrintStream nullStream() {
+        return new PrintStream(OutputStream.nullOutputStream());
+    }
+
+    /**
+     * Returns the terminal of the clinic, whose messages are discarded.
+     *
+     * @return The clinic manager.
+     */
+    public ClinicManager getManager() {
+        return manager;
+    }
+
+    /**
+     * Returns the scheduling core of the clinic.
+     *
+     * @return The scheduling core.
+     */
+    public SchedulingCore getCore() {
+        return core;
+    }
+
+    /**
+     * Returns the last bookable day, on which no appointment is booked.
+     *
+     * @return The free day.
+     */
+    public Date getFreeDay() {
+        return days.get(days.size() - 1);
+    }
+
+    /**
+     * Copies every booked appointment into a list, in date order.
+     *
+     * @return The appointments.
+     */
+    public List<Appointment> appointments() {
+        List<Appointment> appointments = new List<>(booked);
+        core.read(store -> {
+            for (Appointment appointment : store) {
+                appointments.add(appointment);
+            }
+        });
+        return appointments;
+    }
+
+    /**
+     * Books appointments day by day and slot by slot until the count is reached or the calendar is full.
+     */
+    private void fill(int appointments) {
+        List<Doctor> doctors = new List<>();
+        ProviderCatalog catalog = core.getCatalog();
+        for (int id = 0; id < catalog.size(); id++) {
+            if (catalog.get(id) instanceof Doctor doctor) {
+                doctors.add(doctor);
+            }
+        }
+        int pool = Math.max(1, appointments / 4);
+        int patient = 0;
+        for (int day = 0; day < days.size() - 1 && booked < appointments; day++) {
+            for (Timeslot timeslot : Timeslot.SLOTS) {
+                for (int i = 0; i < doctors.size() && booked < appointments; i++) {
+                    if (core.bookOffice(days.get(day), timeslot, patient(patient++ % pool), doctors.get(i)).status()
+                            == SchedulingCore.Status.BOOKED) {
+                        booked++;
+                    }
+                }
+                for (Radiology room : Radiology.values()) {
+                    if (booked < appointments && core.bookImaging(days.get(day), timeslot, patient(patient++ % pool), room)
+                            .status() == SchedulingCore.Status.BOOKED) {
+                        booked++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the profile of the patient with the given number in the pool.
+     */
+    private static Profile patient(int number) {
+        return new Profile("Patient" + number, "Bench", PATIENT_BIRTH_DATE);
+    }
+
+    /**
+     * Lists the weekdays after today and within six months from today, in order.
+     */
+    private static List<Date> bookableDays() {
+        List<Date> days = new List<>();
+        LocalDate day = LocalDate.now();
+        while (true) {
+            day = day.plusDays(1);
+            Date date = new Date(day.getMonthValue(), day.getDayOfMonth(), day.getYear());
+            if (!date.WithinSixMonths()) {
+                return days;
+            }
+            if (!date.Weekend()) {
+                days.add(date);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading dates with the DateParser and comparing Date objects.
+ * The dates are drawn from a fixed seed; a quarter of the texts are not valid calendar dates,
+ * as the command files hold some.
+ *
+ * @author Gursimar Singh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch"})
+@State(Scope.Thread)
+public class DateBenchmark {
+    private static final long SEED = 20261017L;
+    private static final int DATES = 1024; // A power of two, so the next date is found with a mask
+
+    private final DateParser parser = new DateParser();
+    private String[] texts;
+    private Date[] dates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        texts = new String[DATES];
+        dates = new Date[DATES];
+        for (int i = 0; i < DATES; i++) {
+            int month = 1 + random.nextInt(12);
+            int day = 1 + random.nextInt(random.nextInt(4) == 0 ? 40 : 28); // Days past 28 may be invalid
+            int year = 1900 + random.nextInt(200);
+            texts[i] = month + "/" + day + "/" + year;
+            dates[i] = new Date(month, day, year);
+        }
+    }
+
+    private int nextIndex() {
+        return next++ & (DATES - 1);
+    }
+
+    /**
+     * Reads a date without checking it against the calendar.
+     */
+    @Benchmark
+    public Date parse() {
+        return parser.parse(texts[nextIndex()]);
+    }
+
+    /**
+     * Reads a date of birth and checks it against the calendar and today.
+     */
+    @Benchmark
+    public DateParser.Result parseBirthDate() {
+        String text = texts[nextIndex()];
+        return parser.parseBirthDate(text, 0, text.length());
+    }
+
+    /**
+     * Reads an appointment date and checks it against the calendar and today.
+     */
+    @Benchmark
+    public DateParser.Result parseAppointmentDate() {
+        String text = texts[nextIndex()];
+        return parser.parseAppointmentDate(text, 0, text.length());
+    }
+
+    /**
+     * Compares two dates.
+     */
+    @Benchmark
+    public int compareTo() {
+        int index = nextIndex();
+        return dates[index].compareTo(dates[(index + 1) & (DATES - 1)]);
+    }
+
+    /**
+     * Checks whether a date is a valid calendar date.
+     */
+    @Benchmark
+    public boolean isValid() {
+        return dates[nextIndex()].isValid();
+    }
+}
@@ -0,0 +1,102 @@
+package util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures add, remove and contains of the List class at several list sizes.
+ * The elements and the probed elements are drawn from a fixed seed, so every run measures the same calls.
+ *
+ * @author Gursimar Singh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch"})
+@State(Scope.Thread)
+public class ListBenchmark {
+    private static final long SEED = 20261017L;
+    private static final int PROBES = 1024; // A power of two, so the next probe is found with a mask
+
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    private Integer[] elements;
+    private Integer[] probes;
+    private Integer[] missing;
+    private List<Integer> list;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        elements = new Integer[size];
+        list = new List<>(size);
+        for (int i = 0; i < size; i++) {
+            elements[i] = random.nextInt(Integer.MAX_VALUE);
+            list.add(elements[i]);
+        }
+        probes = new Integer[PROBES];
+        missing = new Integer[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = elements[random.nextInt(size)];
+            missing[i] = -1 - random.nextInt(Integer.MAX_VALUE); // Never an element
+        }
+    }
+
+    private int nextProbe() {
+        return next++ & (PROBES - 1);
+    }
+
+    /**
+     * Builds a list of every element, one add at a time.
+     */
+    @Benchmark
+    public List<Integer> add() {
+        List<Integer> built = new List<>();
+        for (Integer element : elements) {
+            built.add(element);
+        }
+        return built;
+    }
+
+    /**
+     * Finds an element of the list.
+     */
+    @Benchmark
+    public boolean containsPresent() {
+        return list.contains(probes[nextProbe()]);
+    }
+
+    /**
+     * Searches the whole list for an element it does not hold.
+     */
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(missing[nextProbe()]);
+    }
+
+    /**
+     * Removes an element of the list and adds it back at the end, so the size stays the same.
+     */
+    @Benchmark
+    public List<Integer> removeAndAddBack() {
+        Integer probe = probes[nextProbe()];
+        list.remove(probe);
+        list.add(probe);
+        return list;
+    }
+}
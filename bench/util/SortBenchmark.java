@@ -0,0 +1,94 @@
+package util;
+
+import model.Appointment;
+import model.Workload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sort.appointment with every order the listings use, on the appointments of a filled
+ * calendar shuffled with a fixed seed. Each sort starts from the same shuffled copy; copy measures
+ * the copy alone, to be subtracted from the sorts.
+ *
+ * @author Gursimar Singh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch"})
+@State(Scope.Thread)
+public class SortBenchmark {
+    private static final long SEED = 20261017L;
+
+    /**
+     * The orders of the listings.
+     */
+    public enum Key {
+        BY_DATE_TIME_PROVIDER(sort.BY_DATE_TIME_PROVIDER),
+        BY_PATIENT(sort.BY_PATIENT),
+        BY_COUNTY(sort.BY_COUNTY);
+
+        private final Comparator<Appointment> order;
+
+        Key(Comparator<Appointment> order) {
+            this.order = order;
+        }
+    }
+
+    @Param({"1000", "10000"})
+    private int appointments;
+
+    @Param
+    private Key key;
+
+    private List<Appointment> shuffled;
+    private List<Appointment> working;
+
+    @Setup
+    public void setUp() {
+        shuffled = new Workload(appointments).appointments();
+        Random random = new Random(SEED);
+        for (int i = shuffled.size() - 1; i > 0; i--) {
+            int other = random.nextInt(i + 1);
+            Appointment appointment = shuffled.get(i);
+            shuffled.set(i, shuffled.get(other));
+            shuffled.set(other, appointment);
+        }
+        working = new List<>(shuffled.size());
+    }
+
+    /**
+     * Copies the shuffled appointments, as every sort does first.
+     */
+    @Benchmark
+    public List<Appointment> copy() {
+        working.clear();
+        working.addAll(shuffled);
+        return working;
+    }
+
+    /**
+     * Copies the shuffled appointments and sorts them.
+     */
+    @Benchmark
+    public List<Appointment> appointment() {
+        working.clear();
+        working.addAll(shuffled);
+        sort.appointment(working, key.order);
+        return working;
+    }
+}
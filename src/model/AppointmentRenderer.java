@@ -0,0 +1,202 @@
+package model;
+import java.io.PrintStream;
+import util.Date;
+
+/**
+ * The AppointmentRenderer class writes appointment lines to an output stream without building
+ * a string for every part of every line. The text of the parts that never change is prepared once
+ * (each Timeslot already keeps its own label, such as "9:00 AM"):
+ * - the bracketed description of each provider in the catalog, by provider id, which includes
+ *   the Location text (e.g. "BRIDGEWATER, Somerset 08807") that Location itself builds once,
+ * - the bracketed name of each imaging room.
+ * Dates and patient names are appended piece by piece into one StringBuilder that is reused for
+ * every line, and the builder is written to the stream only when it fills up or a listing ends.
+ *
+ * Between hold() and release() nothing is written: the lines are kept in memory, so a listing can be
+ * rendered under the scheduling core's lock and written to a slow client after the lock is released.
+ *
+ * The lines are the same as the ones Appointment.toString() and Imaging.toString() produce.
+ * The renderer also prints the patient lines of billing statements and the provider lines of credit reports.
+ *
+ * @author Gursimar Singh
+ */
+public class AppointmentRenderer {
+    private static final int FLUSH_THRESHOLD = 8192; // chars held before they are written to the stream
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String[] ROOM_TEXT = new String[Radiology.values().length];
+
+    static {
+        for (Radiology room : Radiology.values()) {
+            ROOM_TEXT[room.ordinal()] = "[" + room + "]";
+        }
+    }
+
+    private final String[] providerText;
+    private final StringBuilder buffer;
+    private final PrintStream out;
+    private boolean holding;
+
+    /**
+     * Creates a renderer for the providers of a catalog.
+     *
+     * @param catalog The provider catalog; each provider's description is prepared once.
+     * @param out     The stream the lines are written to.
+     */
+    public AppointmentRenderer(ProviderCatalog catalog, PrintStream out) {
+        this.providerText = new String[catalog.size()];
+        for (int id = 0; id < providerText.length; id++) {
+            providerText[id] = catalog.get(id).toString();
+        }
+        this.buffer = new StringBuilder(FLUSH_THRESHOLD * 2);
+        this.out = out;
+    }
+
+    /**
+     * Keeps every line printed from now on in memory until release() is called.
+     */
+    public void hold() {
+        holding = true;
+    }
+
+    /**
+     * Writes the lines kept since hold() to the stream, and writes every later line as it is printed.
+     */
+    public void release() {
+        holding = false;
+        flush();
+        if (buffer.capacity() > FLUSH_THRESHOLD * 2) { // Do not keep the memory of a large listing
+            buffer.trimToSize();
+            buffer.ensureCapacity(FLUSH_THRESHOLD * 2);
+        }
+    }
+
+    /**
+     * Prints a line of text.
+     *
+     * @param line The line, without the line separator.
+     */
+    public void println(String line) {
+        buffer.append(line).append(LINE_SEPARATOR);
+        flush();
+    }
+
+    /**
+     * Prints a listing: an empty line, the header, one line per appointment, and "** end of list **".
+     *
+     * @param header       The header line of the listing.
+     * @param appointments The appointments in the order they are printed.
+     */
+    public void printList(String header, Iterable<Appointment> appointments) {
+        buffer.append(LINE_SEPARATOR).append(header).append(LINE_SEPARATOR);
+        for (Appointment appointment : appointments) {
+            appendAppointment(appointment);
+            endLine();
+        }
+        buffer.append("** end of list **").append(LINE_SEPARATOR);
+        flush();
+    }
+
+    /**
+     * Prints one appointment line with text before and after the appointment.
+     *
+     * @param prefix      The text before the appointment.
+     * @param appointment The appointment.
+     * @param suffix      The text after the appointment.
+     */
+    public void printLine(String prefix, Appointment appointment, String suffix) {
+        buffer.append(prefix);
+        appendAppointment(appointment);
+        buffer.append(suffix).append(LINE_SEPARATOR);
+        flush();
+    }
+
+    /**
+     * Prints one line per patient with appointments, in the format "(n) name dob [due: $X.00]".
+     *
+     * @param ledger The ledger holding the patients' balances.
+     */
+    public void printStatement(Ledger ledger) {
+        int n = 0;
+        for (Patient patient : ledger.patients()) {
+            buffer.append('(').append(++n).append(") ");
+            appendProfile(patient.getProfile());
+            buffer.append(" [due: $").append(ledger.getBalance(patient)).append(".00]");
+            endLine();
+        }
+        flush();
+    }
+
+    /**
+     * Prints one line per provider with appointments, in the format "name dob [credit amount: $X.00]".
+     *
+     * @param ledger The ledger holding the providers' credits.
+     */
+    public void printCredits(Ledger ledger) {
+        for (Provider provider : ledger.providers()) {
+            appendProfile(provider.getProfile());
+            buffer.append(" [credit amount: $").append(ledger.getCredit(provider)).append(".00]");
+            endLine();
+        }
+        flush();
+    }
+
+    /**
+     * Appends an appointment in the format of Appointment.toString(), followed by the room for imaging.
+     *
+     * @param appointment The appointment to append.
+     */
+    private void appendAppointment(Appointment appointment) {
+        appendDate(appointment.getDate());
+        buffer.append(' ').append(appointment.getTimeslot().toString()).append(' ');
+        appendProfile(appointment.getPatient().getProfile());
+        buffer.append(' ').append(providerText[((Provider) appointment.getProvider()).getId()]);
+        if (appointment instanceof Imaging imaging) {
+            buffer.append(ROOM_TEXT[imaging.getRoom().ordinal()]);
+        }
+    }
+
+    /**
+     * Appends a profile in the format of Profile.toString().
+     */
+    private void appendProfile(Profile profile) {
+        buffer.append(profile.getFname()).append(' ').append(profile.getLname()).append(' ');
+        appendDate(profile.getDob());
+    }
+
+    /**
+     * Appends a date in the format of Date.toString().
+     */
+    private void appendDate(Date date) {
+        buffer.append(date.getMonth()).append('/').append(date.getDay()).append('/').append(date.getYear());
+    }
+
+    /**
+     * Ends a line of a listing, writing the buffer out once it is large enough.
+     */
+    private void endLine() {
+        buffer.append(LINE_SEPARATOR);
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes everything in the buffer to the stream and empties the buffer, unless lines are held.
+     * A large buffer is written in pieces, never splitting a surrogate pair.
+     */
+    private void flush() {
+        if (holding) {
+            return;
+        }
+        int start = 0;
+        while (start < buffer.length()) {
+            int end = Math.min(buffer.length(), start + FLUSH_THRESHOLD);
+            if (end < buffer.length() && Character.isHighSurrogate(buffer.charAt(end - 1))) {
+                end--;
+            }
+            out.append(buffer, start, end);
+            start = end;
+        }
+        buffer.setLength(0);
+    }
+}
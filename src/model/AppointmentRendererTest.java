@@ -0,0 +1,56 @@
+package model;
+
+import org.junit.Test;
+import util.Date;
+import util.List;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class AppointmentRendererTest {
+    private static final String NL = System.lineSeparator();
+
+    private final Doctor doctor = new Doctor(new Profile("ANDREW", "PATEL", new Date(1, 21, 1989)),
+            Location.BRIDGEWATER, Specialty.FAMILY, "01");
+    private final Technician technician = new Technician(new Profile("JENNY", "PATEL", new Date(8, 9, 1991)),
+            Location.CLARK, 125);
+    private final Patient patient = new Patient(new Profile("John", "Doe", new Date(12, 13, 1989)));
+
+    private AppointmentRenderer renderer(ByteArrayOutputStream bytes) {
+        List<Provider> providers = new List<>();
+        providers.add(doctor);
+        providers.add(technician);
+        return new AppointmentRenderer(new ProviderCatalog(providers), new PrintStream(bytes, true));
+    }
+
+    @Test
+    public void testLinesMatchToString() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AppointmentRenderer renderer = renderer(bytes);
+        Appointment office = new Appointment(new Date(10, 30, 2024), Timeslot.SLOTS[3], patient, doctor);
+        Imaging imaging = new Imaging(new Date(11, 4, 2024), Timeslot.SLOTS[11], patient, technician, Radiology.XRAY);
+
+        renderer.printLine("", office, " booked.");
+        renderer.printLine("Rescheduled to ", imaging, "");
+        assertEquals(office + " booked." + NL + "Rescheduled to " + imaging + NL, bytes.toString());
+    }
+
+    @Test
+    public void testListing() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AppointmentRenderer renderer = renderer(bytes);
+        List<Appointment> appointments = new List<>();
+        StringBuilder expected = new StringBuilder(NL + "** header" + NL);
+        for (int i = 0; i < 500; i++) { // enough lines to fill the buffer more than once
+            Appointment appointment = new Appointment(new Date(1 + i % 12, 1 + i % 28, 2025), Timeslot.SLOTS[i % 12], patient, doctor);
+            appointments.add(appointment);
+            expected.append(appointment).append(NL);
+        }
+        expected.append("** end of list **").append(NL);
+
+        renderer.printList("** header", appointments);
+        assertEquals(expected.toString(), bytes.toString());
+    }
+}
@@ -0,0 +1,600 @@
+package model;
+import util.CircleList;
+import util.Date;
+import util.HashMap;
+import util.List;
+import util.SortedList;
+import util.sort;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * The AppointmentStore class holds every booked appointment of the clinic together with
+ * hash indexes over the keys the scheduler looks up most often:
+ * - (date, timeslot, patient) for finding, cancelling and rescheduling an appointment,
+ * - a ProviderCalendar of (provider, date) slot bitmasks for checking if a doctor or technician is free,
+ * - a RoomOccupancy matrix of (location, room, date) slot bitmasks for checking if an imaging room is free,
+ * - a TechnicianScheduler of (date, timeslot) technician bitsets for finding the next free technician in the rotation.
+ *
+ * The appointments are also kept in sorted views that stay in order as appointments are booked,
+ * cancelled and rescheduled, so the print commands only walk a view:
+ * - all appointments by date/time/provider (PA),
+ * - all appointments by patient/date/time (PP, PS),
+ * - office and imaging appointments by county/date/time, in two separate views (PO, PI, and merged for PL).
+ * Every insertion and removal goes through this class, which keeps the indexes and views in step,
+ * along with a Ledger of the running balance of each patient and credit of each provider (PS, PC).
+ *
+ * @author Gursimar Singh
+ */
+public class AppointmentStore implements Iterable<Appointment> {
+    private final SortedList<Appointment> byDate;
+    private final SortedList<Appointment> byPatient;
+    private final SortedList<Appointment> officeByCounty;
+    private final SortedList<Appointment> imagingByCounty;
+    private final HashMap<SlotKey, List<Appointment>> patientIndex;
+    private final ProviderCalendar providerCalendar;
+    private final RoomOccupancy roomOccupancy;
+    private final TechnicianScheduler technicianScheduler;
+    private final Ledger ledger;
+
+    /**
+     * Creates an empty appointment store for the providers of a catalog.
+     * The technicians rotate in catalog order.
+     *
+     * @param catalog The catalog whose provider ids the store indexes.
+     */
+    public AppointmentStore(ProviderCatalog catalog) {
+        this(catalog, rotationOf(catalog));
+    }
+
+    /**
+     * Creates an empty appointment store for the providers of a catalog.
+     *
+     * @param catalog  The catalog whose provider ids the store indexes.
+     * @param rotation The technician rotation list, used by the technician scheduler.
+     */
+    public AppointmentStore(ProviderCatalog catalog, CircleList<Technician> rotation) {
+        byDate = new SortedList<>(sort.BY_DATE_TIME_PROVIDER);
+        byPatient = new SortedList<>(sort.BY_PATIENT);
+        officeByCounty = new SortedList<>(sort.BY_COUNTY);
+        imagingByCounty = new SortedList<>(sort.BY_COUNTY);
+        patientIndex = new HashMap<>();
+        providerCalendar = new ProviderCalendar(catalog.size());
+        roomOccupancy = new RoomOccupancy();
+        technicianScheduler = new TechnicianScheduler(rotation, catalog.size(), roomOccupancy);
+        ledger = new Ledger(catalog);
+    }
+
+    /**
+     * Adds an appointment to the store and to every index.
+     *
+     * @param appointment The appointment to add.
+     */
+    public void add(Appointment appointment) {
+        byDate.add(appointment);
+        byPatient.add(appointment);
+        countyView(appointment).add(appointment);
+        index(appointment);
+    }
+
+    /**
+     * Adds appointments to an empty store at once, e.g. when loading a snapshot. The sorted views are
+     * built in one pass each instead of one insertion per appointment, and end up in the same order
+     * as if the appointments had been added one by one.
+     *
+     * @param appointments The appointments, ordered by date, time and provider.
+     * @param count        The number of appointments to add from the start of the array.
+     * @throws IllegalStateException    if the store is not empty.
+     * @throws IllegalArgumentException if the appointments are out of order.
+     */
+    public void addAll(Appointment[] appointments, int count) {
+        if (!isEmpty()) {
+            throw new IllegalStateException("The store is not empty");
+        }
+        for (int i = 1; i < count; i++) {
+            if (sort.BY_DATE_TIME_PROVIDER.compare(appointments[i - 1], appointments[i]) > 0) {
+                throw new IllegalArgumentException("The appointments are not in date order");
+            }
+        }
+        byDate.addAllSorted(appointments, count);
+
+        // The other views are stable counting sorts of the date order, by small integer ranks
+        int[] patientRanks = patientRanks(appointments, count);
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = patientRanks[patientId(appointments[i])];
+        }
+        byPatient.addAllSorted(countingSort(appointments, count, keys, patientRanks.length), count);
+
+        int[] countyRanks = countyRanks();
+        int office = 0;
+        Appointment[] officeVisits = new Appointment[count];
+        Appointment[] imaging = new Appointment[count];
+        for (int i = 0; i < count; i++) {
+            if (appointments[i] instanceof Imaging) {
+                imaging[i - office] = appointments[i];
+            } else {
+                officeVisits[office++] = appointments[i];
+            }
+        }
+        officeByCounty.addAllSorted(countyOrder(officeVisits, office, countyRanks, patientRanks), office);
+        imagingByCounty.addAllSorted(countyOrder(imaging, count - office, countyRanks, patientRanks), count - office);
+
+        for (int i = 0; i < count; i++) {
+            index(appointments[i]);
+        }
+    }
+
+    /**
+     * Ranks the patients of the appointments by profile; patients whose profiles compare equal share a rank.
+     *
+     * @return The rank of each patient, by patient id.
+     */
+    private static int[] patientRanks(Appointment[] appointments, int count) {
+        int ids = 0;
+        for (int i = 0; i < count; i++) {
+            ids = Math.max(ids, patientId(appointments[i]) + 1);
+        }
+        Patient[] byId = new Patient[ids];
+        for (int i = 0; i < count; i++) {
+            byId[patientId(appointments[i])] = (Patient) appointments[i].getPatient();
+        }
+        List<Patient> patients = new List<>();
+        for (Patient patient : byId) {
+            if (patient != null) {
+                patients.add(patient);
+            }
+        }
+        patients.sort(Patient::compareTo);
+
+        int[] ranks = new int[ids];
+        int rank = 0;
+        for (int i = 0; i < patients.size(); i++) {
+            if (i > 0 && patients.get(i - 1).compareTo(patients.get(i)) != 0) {
+                rank++;
+            }
+            ranks[patients.get(i).getId()] = rank;
+        }
+        return ranks;
+    }
+
+    /**
+     * Ranks the locations by county name; locations in the same county share a rank.
+     *
+     * @return The rank of each location, by ordinal.
+     */
+    private static int[] countyRanks() {
+        Location[] locations = Location.values();
+        int[] ranks = new int[locations.length];
+        for (Location location : locations) {
+            for (Location other : locations) {
+                if (other.getCounty().compareTo(location.getCounty()) < 0) {
+                    ranks[location.ordinal()]++; // Counts the locations of earlier counties
+                }
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Orders appointments in date order as BY_COUNTY does: by county, keeping the date and time
+     * order, then by patient among the appointments of a county at the same date and time.
+     */
+    private static Appointment[] countyOrder(Appointment[] appointments, int count, int[] countyRanks, int[] patientRanks) {
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = countyRanks[((Provider) appointments[i].getProvider()).getLocation().ordinal()];
+        }
+        Appointment[] sorted = countingSort(appointments, count, keys, countyRanks.length);
+        for (int i = 0; i < count; i++) {
+            keys[i] = countyRanks[((Provider) sorted[i].getProvider()).getLocation().ordinal()];
+        }
+        int run = 0;
+        for (int i = 1; i <= count; i++) {
+            if (i == count || keys[run] != keys[i] || !sorted[run].getDate().equals(sorted[i].getDate())
+                    || sorted[run].getTimeslot() != sorted[i].getTimeslot()) {
+                sortByPatient(sorted, run, i, patientRanks); // A run of one county, date and time
+                run = i;
+            }
+        }
+        return sorted;
+    }
+
+    /**
+     * Sorts a short run of appointments by patient rank with a stable insertion sort.
+     */
+    private static void sortByPatient(Appointment[] appointments, int from, int to, int[] patientRanks) {
+        for (int i = from + 1; i < to; i++) {
+            Appointment appointment = appointments[i];
+            int rank = patientRanks[patientId(appointment)];
+            int j = i - 1;
+            while (j >= from && patientRanks[patientId(appointments[j])] > rank) {
+                appointments[j + 1] = appointments[j];
+                j--;
+            }
+            appointments[j + 1] = appointment;
+        }
+    }
+
+    /**
+     * Orders appointments by an integer key from 0 to keyCount - 1 with a counting sort,
+     * keeping the order of appointments with the same key.
+     */
+    private static Appointment[] countingSort(Appointment[] appointments, int count, int[] keys, int keyCount) {
+        int[] next = new int[keyCount + 1];
+        for (int i = 0; i < count; i++) {
+            next[keys[i] + 1]++;
+        }
+        for (int key = 0; key < keyCount; key++) {
+            next[key + 1] += next[key];
+        }
+        Appointment[] sorted = new Appointment[count];
+        for (int i = 0; i < count; i++) {
+            sorted[next[keys[i]]++] = appointments[i];
+        }
+        return sorted;
+    }
+
+    private static int patientId(Appointment appointment) {
+        return ((Patient) appointment.getPatient()).getId();
+    }
+
+    /**
+     * Adds an appointment to the hash indexes, the calendars and the ledger.
+     *
+     * @param appointment The appointment, already in the sorted views.
+     */
+    private void index(Appointment appointment) {
+        SlotKey patientKey = patientKey(appointment.getPatient().getProfile(), appointment.getDate(), appointment.getTimeslot());
+        List<Appointment> bucket = patientIndex.get(patientKey);
+        if (bucket == null) {
+            bucket = new List<>();
+            patientIndex.put(patientKey, bucket);
+        }
+        bucket.add(appointment);
+
+        providerCalendar.book((Provider) appointment.getProvider(), appointment.getDate(), appointment.getTimeslot());
+
+        if (appointment instanceof Imaging imaging) {
+            roomOccupancy.book(((Provider) imaging.getProvider()).getLocation(), imaging.getRoom(),
+                    imaging.getDate(), imaging.getTimeslot());
+        }
+        if (appointment.getProvider() instanceof Technician technician) {
+            technicianScheduler.book(technician, appointment.getDate(), appointment.getTimeslot());
+        }
+        ledger.add(appointment);
+    }
+
+    /**
+     * Removes an appointment from the store and from every index.
+     *
+     * @param appointment The appointment to remove.
+     */
+    public void remove(Appointment appointment) {
+        if (!byDate.remove(appointment)) {
+            return; // Not in the store
+        }
+        byPatient.remove(appointment);
+        countyView(appointment).remove(appointment);
+
+        SlotKey patientKey = patientKey(appointment.getPatient().getProfile(), appointment.getDate(), appointment.getTimeslot());
+        List<Appointment> bucket = patientIndex.get(patientKey);
+        if (bucket != null) {
+            bucket.remove(appointment);
+            if (bucket.isEmpty()) {
+                patientIndex.remove(patientKey);
+            }
+        }
+
+        providerCalendar.release((Provider) appointment.getProvider(), appointment.getDate(), appointment.getTimeslot());
+
+        if (appointment instanceof Imaging imaging) {
+            roomOccupancy.release(((Provider) imaging.getProvider()).getLocation(), imaging.getRoom(),
+                    imaging.getDate(), imaging.getTimeslot());
+        }
+        if (appointment.getProvider() instanceof Technician technician) {
+            technicianScheduler.release(technician, appointment.getDate(), appointment.getTimeslot());
+        }
+        ledger.remove(appointment);
+    }
+
+    /**
+     * Finds the appointment of a patient at the given date and timeslot.
+     * The patient's first and last names are matched ignoring case.
+     *
+     * @param date           The date of the appointment, or null, which no appointment has.
+     * @param timeslot       The timeslot of the appointment, or null, which no appointment has.
+     * @param patientProfile The patient's profile.
+     * @return The matching appointment, or null if there is none.
+     */
+    public Appointment find(Date date, Timeslot timeslot, Profile patientProfile) {
+        List<Appointment> bucket = bucket(patientProfile, date, timeslot);
+        return bucket == null ? null : bucket.get(0);
+    }
+
+    /**
+     * Finds the appointment of a patient with a provider at the given date and timeslot.
+     * Unlike find(Date, Timeslot, Profile), the profile must match exactly, date of birth included,
+     * so the one appointment a journal record names is found among patients who share their names.
+     *
+     * @param date           The date of the appointment, or null, which no appointment has.
+     * @param timeslot       The timeslot of the appointment, or null, which no appointment has.
+     * @param patientProfile The patient's profile.
+     * @param provider       The doctor or technician of the appointment.
+     * @return The matching appointment, or null if there is none.
+     */
+    public Appointment find(Date date, Timeslot timeslot, Profile patientProfile, Provider provider) {
+        List<Appointment> bucket = bucket(patientProfile, date, timeslot);
+        if (bucket == null) {
+            return null;
+        }
+        for (Appointment appointment : bucket) {
+            if (appointment.getProvider() == provider && appointment.getPatient().getProfile().equals(patientProfile)) {
+                return appointment;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the patient already has an appointment at the given date and timeslot.
+     * Unlike find(), the patient's profile must match exactly, as in Appointment.equals().
+     *
+     * @param date           The date of the appointment, or null, which no appointment has.
+     * @param timeslot       The timeslot of the appointment, or null, which no appointment has.
+     * @param patientProfile The profile of the patient to look for.
+     * @return true if an equal appointment exists, false otherwise.
+     */
+    public boolean contains(Date date, Timeslot timeslot, Profile patientProfile) {
+        List<Appointment> bucket = bucket(patientProfile, date, timeslot);
+        if (bucket == null) {
+            return false;
+        }
+        for (Appointment appointment : bucket) {
+            if (appointment.getPatient().getProfile().equals(patientProfile)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a provider already has an appointment at the given date and timeslot.
+     *
+     * @param provider The doctor or technician to check.
+     * @param date     The date to check.
+     * @param timeslot The timeslot to check.
+     * @return true if the provider is booked, false if they are free.
+     */
+    public boolean isProviderBooked(Provider provider, Date date, Timeslot timeslot) {
+        return !providerCalendar.isAvailable(provider, date, timeslot);
+    }
+
+    /**
+     * Checks if an imaging room at a location is taken at the given date and timeslot.
+     *
+     * @param location The location of the room.
+     * @param room     The imaging room.
+     * @param date     The date to check.
+     * @param timeslot The timeslot to check.
+     * @return true if the room is taken, false if it is free.
+     */
+    public boolean isRoomBooked(Location location, Radiology room, Date date, Timeslot timeslot) {
+        return !roomOccupancy.isAvailable(location, room, date, timeslot);
+    }
+
+    /**
+     * Returns the appointments ordered by date, time and provider.
+     *
+     * @return The appointments in PA order.
+     */
+    public Iterable<Appointment> byDateTimeProvider() {
+        return byDate;
+    }
+
+    /**
+     * Returns the appointments ordered by patient, date and time.
+     *
+     * @return The appointments in PP order.
+     */
+    public Iterable<Appointment> byPatient() {
+        return byPatient;
+    }
+
+    /**
+     * Returns all appointments ordered by county, date, time and patient.
+     * The office and imaging views are merged while they are walked.
+     *
+     * @return The appointments in PL order.
+     */
+    public Iterable<Appointment> byCounty() {
+        return () -> new MergeIterator(officeByCounty.iterator(), imagingByCounty.iterator());
+    }
+
+    /**
+     * Returns the office appointments ordered by county, date, time and patient.
+     *
+     * @return The office appointments in PO order.
+     */
+    public Iterable<Appointment> officeByCounty() {
+        return officeByCounty;
+    }
+
+    /**
+     * Returns the imaging appointments ordered by county, date, time and patient.
+     *
+     * @return The imaging appointments in PI order.
+     */
+    public Iterable<Appointment> imagingByCounty() {
+        return imagingByCounty;
+    }
+
+    /**
+     * Returns the scheduler that picks technicians for imaging appointments, which always matches the store.
+     *
+     * @return The technician scheduler of the store.
+     */
+    public TechnicianScheduler getTechnicianScheduler() {
+        return technicianScheduler;
+    }
+
+    /**
+     * Returns the ledger of patient balances and provider credits, which always matches the store.
+     *
+     * @return The ledger of the store.
+     */
+    public Ledger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * Returns the number of appointments in the store.
+     *
+     * @return The number of appointments.
+     */
+    public int size() {
+        return byDate.size();
+    }
+
+    /**
+     * Checks if the store is empty.
+     *
+     * @return true if there are no appointments, false otherwise.
+     */
+    public boolean isEmpty() {
+        return byDate.isEmpty();
+    }
+
+    /**
+     * Removes every appointment from the store.
+     */
+    public void clear() {
+        byDate.clear();
+        byPatient.clear();
+        officeByCounty.clear();
+        imagingByCounty.clear();
+        patientIndex.clear();
+        providerCalendar.clear();
+        roomOccupancy.clear();
+        technicianScheduler.clear();
+        ledger.clear();
+    }
+
+    /**
+     * Returns an iterator over the appointments ordered by date, time and provider.
+     *
+     * @return An iterator over the appointments.
+     */
+    @Override
+    public Iterator<Appointment> iterator() {
+        return byDate.iterator();
+    }
+
+    /**
+     * Returns the county view that holds the given appointment.
+     *
+     * @param appointment The appointment.
+     * @return The imaging view for imaging appointments, the office view otherwise.
+     */
+    private SortedList<Appointment> countyView(Appointment appointment) {
+        return appointment instanceof Imaging ? imagingByCounty : officeByCounty;
+    }
+
+    private static CircleList<Technician> rotationOf(ProviderCatalog catalog) {
+        CircleList<Technician> rotation = new CircleList<>();
+        rotation.addAll(catalog.getTechnicians());
+        return rotation;
+    }
+
+    /**
+     * Returns the appointments of a patient's names at a date and timeslot. An invalid date or
+     * timeslot arrives as null; no appointment has it, so nothing is found.
+     */
+    private List<Appointment> bucket(Profile profile, Date date, Timeslot timeslot) {
+        return date == null || timeslot == null ? null : patientIndex.get(patientKey(profile, date, timeslot));
+    }
+
+    private static SlotKey patientKey(Profile profile, Date date, Timeslot timeslot) {
+        return new SlotKey(profile.getFname().toLowerCase(Locale.ROOT), profile.getLname().toLowerCase(Locale.ROOT), date, timeslot);
+    }
+
+    /**
+     * A hash key made of a patient's first and last names, a date and a timeslot.
+     * The names are stored in lower case so that lookups ignore case.
+     */
+    private static final class SlotKey {
+        private final String fname;
+        private final String lname;
+        private final Date date;
+        private final Timeslot timeslot;
+        private final int hash;
+
+        private SlotKey(String fname, String lname, Date date, Timeslot timeslot) {
+            this.fname = fname;
+            this.lname = lname;
+            this.date = date;
+            this.timeslot = timeslot;
+            int h = fname.hashCode();
+            h = h * 31 + lname.hashCode();
+            h = h * 31 + date.hashCode();
+            this.hash = h * 31 + timeslot.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SlotKey other)) {
+                return false;
+            }
+            return hash == other.hash && fname.equals(other.fname) && lname.equals(other.lname)
+                    && date.equals(other.date) && timeslot.equals(other.timeslot);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Walks two county-ordered iterators as one, taking the office appointment first on ties.
+     */
+    private static final class MergeIterator implements Iterator<Appointment> {
+        private final Iterator<Appointment> office;
+        private final Iterator<Appointment> imaging;
+        private Appointment nextOffice;
+        private Appointment nextImaging;
+
+        private MergeIterator(Iterator<Appointment> office, Iterator<Appointment> imaging) {
+            this.office = office;
+            this.imaging = imaging;
+            nextOffice = office.hasNext() ? office.next() : null;
+            nextImaging = imaging.hasNext() ? imaging.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextOffice != null || nextImaging != null;
+        }
+
+        @Override
+        public Appointment next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Appointment result;
+            if (nextImaging == null || (nextOffice != null && sort.BY_COUNTY.compare(nextOffice, nextImaging) <= 0)) {
+                result = nextOffice;
+                nextOffice = office.hasNext() ? office.next() : null;
+            } else {
+                result = nextImaging;
+                nextImaging = imaging.hasNext() ? imaging.next() : null;
+            }
+            return result;
+        }
+    }
+}
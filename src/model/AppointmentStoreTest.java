@@ -0,0 +1,103 @@
+package model;
+
+import org.junit.Before;
+import org.junit.Test;
+import util.Date;
+import util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AppointmentStoreTest {
+    private final Doctor patel = new Doctor(new Profile("ANDREW", "PATEL", new Date(1, 21, 1989)),
+            Location.BRIDGEWATER, Specialty.FAMILY, "01");
+    private final Doctor lim = new Doctor(new Profile("RACHAEL", "LIM", new Date(7, 9, 1987)),
+            Location.EDISON, Specialty.PEDIATRICIAN, "23");
+    private final Technician fox = new Technician(new Profile("MONICA", "FOX", new Date(3, 15, 1995)), Location.EDISON, 130);
+    private final Date date = new Date(11, 4, 2024);
+    private final Profile john = new Profile("John", "Doe", new Date(12, 13, 1989));
+    private final Profile otherJohn = new Profile("JOHN", "DOE", new Date(1, 1, 1990)); // Same names, another patient
+    private PatientRegistry registry;
+    private AppointmentStore store;
+
+    @Before
+    public void createStore() {
+        List<Provider> providers = new List<>();
+        providers.add(patel);
+        providers.add(lim);
+        providers.add(fox);
+        store = new AppointmentStore(new ProviderCatalog(providers));
+        registry = new PatientRegistry();
+    }
+
+    private Appointment office(Timeslot timeslot, Profile profile, Doctor doctor) {
+        Appointment appointment = new Appointment(date, timeslot, registry.register(profile), doctor);
+        store.add(appointment);
+        return appointment;
+    }
+
+    @Test
+    public void testFindMatchesNamesIgnoringCase() {
+        Appointment booked = office(Timeslot.ofSlot(1), john, patel);
+        assertSame(booked, store.find(date, Timeslot.ofSlot(1), new Profile("JOHN", "doe", john.getDob())));
+        assertNull(store.find(date, Timeslot.ofSlot(2), john));
+        assertNull(store.find(new Date(11, 5, 2024), Timeslot.ofSlot(1), john));
+        assertNull(store.find(date, Timeslot.ofSlot(1), new Profile("Jane", "Doe", john.getDob())));
+    }
+
+    @Test
+    public void testInvalidDateOrTimeslotFindsNothing() {
+        office(Timeslot.ofSlot(1), john, patel);
+        assertNull(store.find(null, Timeslot.ofSlot(1), john));
+        assertNull(store.find(date, null, john));
+        assertNull(store.find(null, null, john, patel));
+        assertFalse(store.contains(date, null, john));
+        assertFalse(store.contains(null, Timeslot.ofSlot(1), john));
+    }
+
+    @Test
+    public void testContainsAndExactFindCompareTheWholeProfile() {
+        Appointment johns = office(Timeslot.ofSlot(1), john, patel);
+        Appointment otherJohns = office(Timeslot.ofSlot(1), otherJohn, lim);
+        assertTrue(store.contains(date, Timeslot.ofSlot(1), otherJohn));
+        assertFalse(store.contains(date, Timeslot.ofSlot(1), new Profile("John", "Doe", new Date(2, 2, 1980))));
+        assertSame(johns, store.find(date, Timeslot.ofSlot(1), john, patel));
+        assertSame(otherJohns, store.find(date, Timeslot.ofSlot(1), otherJohn, lim));
+        assertNull(store.find(date, Timeslot.ofSlot(1), john, lim));
+    }
+
+    @Test
+    public void testRemoveUpdatesEveryIndex() {
+        Appointment first = office(Timeslot.ofSlot(2), john, patel);
+        Appointment second = office(Timeslot.ofSlot(1), otherJohn, lim);
+        Appointment imaging = new Imaging(date, Timeslot.ofSlot(3), registry.register(john), fox, Radiology.XRAY);
+        store.add(imaging);
+        assertEquals(3, store.size());
+        assertTrue(store.isProviderBooked(patel, date, Timeslot.ofSlot(2)));
+        assertTrue(store.isRoomBooked(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(3)));
+
+        List<Appointment> inOrder = new List<>();
+        for (Appointment appointment : store.byDateTimeProvider()) {
+            inOrder.add(appointment);
+        }
+        assertSame(second, inOrder.get(0));
+        assertSame(first, inOrder.get(1));
+        assertSame(imaging, inOrder.get(2));
+
+        store.remove(first);
+        store.remove(imaging);
+        assertEquals(1, store.size());
+        assertNull(store.find(date, Timeslot.ofSlot(2), john));
+        assertFalse(store.isProviderBooked(patel, date, Timeslot.ofSlot(2)));
+        assertFalse(store.isRoomBooked(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(3)));
+        assertSame(second, store.find(date, Timeslot.ofSlot(1), john)); // The other John is still there
+
+        store.clear();
+        assertTrue(store.isEmpty());
+        assertNull(store.find(date, Timeslot.ofSlot(1), otherJohn));
+        assertFalse(store.isProviderBooked(lim, date, Timeslot.ofSlot(1)));
+    }
+}
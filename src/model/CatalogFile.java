@@ -0,0 +1,200 @@
+package model;
+import util.HashMap;
+import util.List;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The CatalogFile class compiles the providers of providers.txt into a binary catalog, and maps a
+ * compiled catalog back into a ProviderCatalog without parsing any text or sorting any provider.
+ *
+ * File format:
+ * - a header (MAGIC, VERSION, length and CRC-32 of the text it was compiled from, number of providers,
+ *   number of strings),
+ * - one fixed-width record per provider, in file order (the provider id is the record number):
+ *   [byte kind][byte location][byte specialty][byte unused][int first name][int last name]
+ *   [int packed date of birth, 0 for none][int NPI for a doctor, rate per visit for a technician],
+ *   where names and NPIs are numbers of strings in the string table,
+ * - the provider ids sorted by last name, then first name,
+ * - the string table: each distinct string once, as [short length][UTF-8 bytes],
+ * - a CRC-32 of everything before it.
+ *
+ * The text stays the source of truth: a compiled catalog is only used while its length and checksum
+ * match the text, so after providers.txt is edited the catalog is ignored until it is compiled again.
+ *
+ * @author Gursimar Singh
+ */
+public class CatalogFile {
+    private static final int MAGIC = 0x434C4E50; // "CLNP"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+    private static final int RECORD_SIZE = 20;
+    private static final byte DOCTOR = 0;
+    private static final byte TECHNICIAN = 1;
+
+    private CatalogFile() {
+    }
+
+    /**
+     * Writes the compiled catalog of a provider file, replacing any earlier one.
+     *
+     * @param text    The bytes of the provider file.
+     * @param catalog The catalog built from the text.
+     * @param file    The compiled catalog file.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(byte[] text, ProviderCatalog catalog, Path file) throws IOException {
+        int count = catalog.size();
+        HashMap<String, Integer> numbers = new HashMap<>();
+        List<byte[]> strings = new List<>();
+        ByteBuffer records = ByteBuffer.allocate(count * RECORD_SIZE);
+        for (int id = 0; id < count; id++) {
+            Provider provider = catalog.get(id);
+            Profile profile = provider.getProfile();
+            records.put(provider instanceof Doctor ? DOCTOR : TECHNICIAN);
+            records.put((byte) provider.getLocation().ordinal());
+            records.put(provider instanceof Doctor doctor ? (byte) doctor.getSpecialty().ordinal() : 0);
+            records.put((byte) 0);
+            records.putInt(number(profile.getFname(), numbers, strings));
+            records.putInt(number(profile.getLname(), numbers, strings));
+            records.putInt(profile.getDob() == null ? 0 : Journal.packDate(profile.getDob()));
+            records.putInt(provider instanceof Doctor doctor ? number(doctor.getNpi(), numbers, strings) : provider.rate());
+        }
+        int stringTableSize = 0;
+        for (byte[] string : strings) {
+            stringTableSize += 2 + string.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + records.capacity() + count * 4 + stringTableSize + 4);
+        CRC32 crc = new CRC32();
+        crc.update(text);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(text.length).putInt((int) crc.getValue())
+                .putInt(count).putInt(strings.size());
+        buffer.put(records.array());
+        List<Provider> sorted = catalog.getSortedProviders();
+        for (int i = 0; i < sorted.size(); i++) {
+            buffer.putInt(sorted.get(i).getId());
+        }
+        for (byte[] string : strings) {
+            buffer.putShort((short) string.length);
+            buffer.put(string);
+        }
+        crc.reset();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temporary, buffer.array());
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps a compiled catalog into memory and builds the provider catalog from it.
+     *
+     * @param file The compiled catalog file.
+     * @param text The bytes of the provider file the catalog must have been compiled from.
+     * @return The provider catalog, the same as the one built from the text.
+     * @throws IOException if the file cannot be read, is damaged, or was compiled from another text.
+     */
+    public static ProviderCatalog map(Path file, byte[] text) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + 4 || size > Integer.MAX_VALUE) {
+                throw new IOException("not a compiled catalog");
+            }
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+            crc.update(in.slice(0, (int) size - 4));
+            if (in.getInt((int) size - 4) != (int) crc.getValue()) {
+                throw new IOException("the compiled catalog is damaged");
+            }
+            if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+                throw new IOException("not a compiled catalog");
+            }
+            crc.reset();
+            crc.update(text);
+            if (in.getInt() != text.length || in.getInt() != (int) crc.getValue()) {
+                throw new IOException("the catalog was compiled from another " + ProviderParser.PROVIDER_FILE);
+            }
+            return read(in, (int) size - 4, text);
+        } catch (RuntimeException e) {
+            throw new IOException("the compiled catalog is damaged", e); // e.g. an offset outside the file
+        }
+    }
+
+    /**
+     * Reads the providers and the sorted order after the header; text is the provider file they were compiled from.
+     */
+    private static ProviderCatalog read(ByteBuffer in, int end, byte[] text) throws IOException {
+        int count = in.getInt();
+        int stringCount = in.getInt();
+        long stringsStart = HEADER_SIZE + (long) count * RECORD_SIZE + count * 4L;
+        if (count < 0 || stringCount < 0 || stringsStart + 2L * stringCount > end) {
+            throw new IOException("the compiled catalog is damaged");
+        }
+        String[] strings = new String[stringCount];
+        ByteBuffer table = in.duplicate().position((int) stringsStart).limit(end);
+        for (int i = 0; i < strings.length; i++) { // Each distinct string is decoded once
+            byte[] bytes = new byte[table.getShort()];
+            table.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        Location[] locations = Location.values();
+        Specialty[] specialties = Specialty.values();
+
+        List<Provider> providers = new List<>(count);
+        for (int id = 0; id < count; id++) {
+            byte kind = in.get();
+            Location location = locations[in.get()];
+            Specialty specialty = specialties[in.get()];
+            in.get();
+            String fname = strings[in.getInt()];
+            String lname = strings[in.getInt()];
+            int dob = in.getInt();
+            Profile profile = new Profile(fname, lname, dob == 0 ? null : Journal.unpackDate(dob));
+            int last = in.getInt();
+            if (kind == DOCTOR) {
+                providers.add(new Doctor(profile, location, specialty, strings[last]));
+            } else if (kind == TECHNICIAN) {
+                providers.add(new Technician(profile, location, last));
+            } else {
+                throw new IOException("unknown provider kind " + kind);
+            }
+        }
+
+        int[] sortedIds = new int[count];
+        boolean[] seen = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            int id = in.getInt();
+            if (seen[id]) {
+                throw new IOException("the sorted order of the compiled catalog is damaged");
+            }
+            seen[id] = true;
+            sortedIds[i] = id;
+        }
+        return new ProviderCatalog(providers, sortedIds, text);
+    }
+
+    /**
+     * Returns the number of a string in the string table, adding the string if it is new.
+     */
+    private static int number(String string, HashMap<String, Integer> numbers, List<byte[]> strings) {
+        Integer number = numbers.get(string);
+        if (number == null) {
+            number = strings.size();
+            numbers.put(string, number);
+            strings.add(string.getBytes(StandardCharsets.UTF_8));
+        }
+        return number;
+    }
+}
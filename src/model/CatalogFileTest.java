@@ -0,0 +1,87 @@
+package model;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import util.List;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
+
+public class CatalogFileTest {
+    private Path directory;
+    private Path file;
+    private byte[] text;
+
+    @Before
+    public void compile() throws IOException {
+        directory = Files.createTempDirectory("catalog");
+        file = directory.resolve("providers.bin");
+        try (InputStream in = getClass().getResourceAsStream(ProviderParser.PROVIDER_FILE)) {
+            text = in.readAllBytes();
+        }
+        CatalogFile.write(text, parse(text), file);
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    private static ProviderCatalog parse(byte[] text) {
+        return new ProviderCatalog(new ProviderParser(new PrintStream(new ByteArrayOutputStream())).parse(text), text);
+    }
+
+    private static String describe(ProviderCatalog catalog) {
+        StringBuilder description = new StringBuilder();
+        for (int id = 0; id < catalog.size(); id++) {
+            description.append(id).append(' ').append(catalog.get(id)).append('\n');
+        }
+        List<Provider> sorted = catalog.getSortedProviders();
+        for (int i = 0; i < sorted.size(); i++) {
+            description.append(sorted.get(i).getId()).append(' ');
+        }
+        List<Technician> technicians = catalog.getTechnicians();
+        for (int i = 0; i < technicians.size(); i++) {
+            description.append(technicians.get(i).getId()).append(' ');
+        }
+        for (Location location : Location.values()) {
+            description.append(catalog.getProviders(location).size()).append(' ');
+        }
+        return description.toString();
+    }
+
+    @Test
+    public void testMappedCatalogMatchesTheText() throws IOException {
+        ProviderCatalog mapped = CatalogFile.map(file, text);
+        assertEquals(describe(parse(text)), describe(mapped));
+        assertEquals("01", mapped.findDoctor("01").getNpi());
+        assertEquals(parse(text).getChecksum(), mapped.getChecksum()); // Journals and snapshots written with one are read with the other
+    }
+
+    @Test(expected = IOException.class)
+    public void testEditedTextIsNotServedByAnOldCatalog() throws IOException {
+        byte[] edited = (new String(text, StandardCharsets.UTF_8)
+                + "T  NEW  TECH  01/01/1990  EDISON  120\n").getBytes(StandardCharsets.UTF_8);
+        CatalogFile.map(file, edited);
+    }
+
+    @Test(expected = IOException.class)
+    public void testDamagedCatalogIsRefused() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7F}), 30);
+        }
+        CatalogFile.map(file, text);
+    }
+}
@@ -1,14 +1,21 @@
 package model;
 import util.Date;
-import util.sort;
 
-import java.util.Calendar;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.Scanner;
+import java.util.function.Consumer;
+import util.ChannelLineReader;
 import util.List;
 import util.CircleList;
 
 /**
  * Manages clinic operations and appointments.
+ * Each ClinicManager reads the commands of one terminal and prints their messages, while the
+ * appointments are kept by a SchedulingCore that several ClinicManagers can share.
  *
  * Commands:
  * - D: Schedule with a doctor
@@ -27,67 +34,130 @@ import util.CircleList;
  * @author Gursimar Singh
  */
 public class ClinicManager {
+    public static final String JOURNAL_PROPERTY = "clinic.journal";
+    public static final String CATALOG_PROPERTY = "clinic.catalog";
+    public static final String SNAPSHOT_INTERVAL_PROPERTY = "clinic.snapshotInterval";
+    private static final long SNAPSHOT_INTERVAL = 100000; // journal records between snapshots
 
-    private List<Provider> providerList;
-    private List<Appointment> appointmentList;
+    private ProviderCatalog providerCatalog;
+    private SchedulingCore core;
     private CircleList<Technician> technicianList;
+    private final CommandParser commandParser = new CommandParser();
+    private final PrintStream out;
+    private AppointmentRenderer renderer;
 
     /**
-     * The constructor makes a provider, appointment, and technician list
-     * Loads and displays the provider and technician lists.
+     * The constructor makes a provider catalog, appointment store, and technician list
+     * Loads and displays the provider and technician lists on the console.
      */
     public ClinicManager() {
+        this(System.out);
+    }
+
+    /**
+     * The constructor makes a provider catalog, appointment store, and technician list
+     * Loads and displays the provider and technician lists.
+     *
+     * @param out The stream every message and list is written to.
+     */
+    public ClinicManager(PrintStream out) {
+        this.out = out;
         this.technicianList = new CircleList<>();
-        providerList = new List<>();
-        appointmentList = new List<>();
 
-        loadProviderList(); //fill the provider list
+        loadProviderList(); //build the provider catalog
         createTechnicianList(); // fill the technician list
+        core = new SchedulingCore(providerCatalog, technicianList);
+        renderer = new AppointmentRenderer(providerCatalog, out);
         displayProviderList(); //print providers
         displayTechnicianList(); //print technician list
+        openJournal(); // replay the journal, if one is configured
+    }
+
+    /**
+     * The constructor makes another terminal for the clinic of an existing scheduling core.
+     * Nothing is loaded or displayed.
+     *
+     * @param core The scheduling core shared with the other terminals.
+     * @param out  The stream every message and list of this terminal is written to.
+     */
+    public ClinicManager(SchedulingCore core, PrintStream out) {
+        this.out = out;
+        this.core = core;
+        this.providerCatalog = core.getCatalog();
+        this.renderer = new AppointmentRenderer(providerCatalog, out);
     }
 
     /**
-     * Loads provider data from a file and adds them to the provider list.
-     * The provider information is read from "providers.txt".
+     * Returns the scheduling core of the clinic, to open more terminals on it.
+     *
+     * @return The scheduling core.
+     */
+    public SchedulingCore getCore() {
+        return core;
+    }
+
+    /**
+     * Loads provider data from a file and builds the provider catalog from it.
+     * The provider information is read from "providers.txt", or mapped from the compiled catalog
+     * named by the CATALOG_PROPERTY system property while it matches "providers.txt".
      * Handles file-not-found errors by displaying an appropriate message.
      */
     private void loadProviderList() {
-        try {
-            // Load file
-            Scanner fileScanner = new Scanner(getClass().getResourceAsStream("providers.txt"));
-
-            while (fileScanner.hasNextLine()) {
-                String providerData = fileScanner.nextLine();
+        byte[] text;
+        try (InputStream file = getClass().getResourceAsStream(ProviderParser.PROVIDER_FILE)) {
+            text = file.readAllBytes();
+        } catch (NullPointerException | IOException e) {
+            out.println("Error: 'providers.txt' file not found in the package.");
+            providerCatalog = new ProviderCatalog(new List<>());
+            return;
+        }
 
-                Provider provider = convertToProvider(providerData);
-                if (provider != null) {
-                    providerList.add(provider);
-                }
+        String catalogFile = System.getProperty(CATALOG_PROPERTY);
+        if (catalogFile != null) {
+            try {
+                providerCatalog = CatalogFile.map(Path.of(catalogFile), text);
+                out.println("Providers successfully loaded to the list.");
+                return;
+            } catch (IOException e) {
+                out.println("Error: cannot use the catalog " + catalogFile + " (" + e.getMessage() + "); providers are read from providers.txt.");
             }
-
-            fileScanner.close();
-            System.out.println("Providers successfully loaded to the list.");
-
-        } catch (NullPointerException e) {
-            System.out.println("Error: 'providers.txt' file not found in the package.");
         }
+        List<Provider> providerList = new ProviderParser(out).parse(text);
+        out.println("Providers successfully loaded to the list.");
+        providerCatalog = new ProviderCatalog(providerList, text); // built once, never modified afterwards
     }
 
 
 
     /**
-     * Creates a list of technicians from the provider list,
+     * Opens the journal named by the JOURNAL_PROPERTY system property, if it is set, and loads its
+     * snapshot and replays it so the appointments of earlier runs are booked again. Without the
+     * property nothing is journaled. A snapshot is taken every SNAPSHOT_INTERVAL journal records,
+     * or every number of records given by the SNAPSHOT_INTERVAL_PROPERTY (0 for none).
+     */
+    private void openJournal() {
+        String journalFile = System.getProperty(JOURNAL_PROPERTY);
+        if (journalFile == null) {
+            return;
+        }
+        try {
+            core.setSnapshotInterval(Long.getLong(SNAPSHOT_INTERVAL_PROPERTY, SNAPSHOT_INTERVAL));
+            int appointments = core.openJournal(Path.of(journalFile));
+            out.println("Journal " + journalFile + " replayed, " + appointments + " appointments restored.");
+        } catch (IOException | RuntimeException e) {
+            out.println("Error: cannot open the journal " + journalFile + " (" + e.getMessage() + "); changes are not journaled.");
+        }
+    }
+
+    /**
+     * Creates a list of technicians from the provider catalog,
      * adding technicians in reverse order.
      */
     private void createTechnicianList() {
-        // Traverse providers list
-        for (int index = providerList.size() - 1; index >= 0; index--) {
-            Provider currentProvider = providerList.get(index);
-            // Check if the current provider is a technician
-            if (currentProvider instanceof Technician) {
-                technicianList.add((Technician) currentProvider);  // Add technicians in reverse order
-            }
+        // Traverse the catalog's technicians
+        List<Technician> technicians = providerCatalog.getTechnicians();
+        for (int index = technicians.size() - 1; index >= 0; index--) {
+            technicianList.add(technicians.get(index));  // Add technicians in reverse order
         }
     }
 
@@ -95,17 +165,17 @@ public class ClinicManager {
      * Displays the current technician rotation list, showing each technician's first and last names along with their locations.
      */
     private void displayTechnicianList() {
-        System.out.println("\nRotation list for the technicians.\n:");
+        out.println("\nRotation list for the technicians.\n:");
         for (int index = 0; index < technicianList.size(); index++) {
             Technician currentTechnician = technicianList.get(index);
-            System.out.print(currentTechnician.getProfile().getFname() + " " + currentTechnician.getProfile().getLname() +
+            out.print(currentTechnician.getProfile().getFname() + " " + currentTechnician.getProfile().getLname() +
                     " (" + currentTechnician.getLocation().name() + ")");
             // Add arrow between technicians except for the last one
             if (index < technicianList.size() - 1) {
-                System.out.print(" --> ");
+                out.print(" --> ");
             }
         }
-        System.out.println(); // Move to the next line after printing the rotation
+        out.println(); // Move to the next line after printing the rotation
     }
 
     /**
@@ -113,56 +183,17 @@ public class ClinicManager {
      * Each provider's details are printed to the console.
      */
     private void displayProviderList() {
-        sort.provider(providerList);
-        for(int i = 0; i < providerList.size(); i++){
-            System.out.println(providerList.get(i).toString());
+        List<Provider> sortedProviders = providerCatalog.getSortedProviders();
+        for(int i = 0; i < sortedProviders.size(); i++){
+            out.println(sortedProviders.get(i).toString());
         }
     }
 
-    /**
-     * Converts a line of text into a Provider object.
-     *
-     * @param line A string containing provider details formatted as per specifications.
-     * @return A Provider instance if conversion is successful, or null for invalid formats.
-     */
-    private Provider convertToProvider(String line) {
-        String[] details = line.split("  "); // Maintain the two-space delimiter from providers.txt.
-
-        // check if Doctor or Tech
-        String providerCategory = details[0].trim();
-
-        // check length of details. If D, the details.length = y and if T then details.length = 6
-        if ((providerCategory.equals("D") && details.length != 7) ||
-                (providerCategory.equals("T") && details.length != 6)) {
-            System.out.println("Error: Invalid provider format.");
-            return null;
-        }
-
-        // get first name, last name, dob, and location
-        String firstName = details[1].trim();
-        String lastName = details[2].trim();
-        Date dateOfBirth = convertToDate(details[3].trim());
-        Location workLocation = convertToLocation(details[4].trim());
-
-        // check if doctor or tech
-        if (providerCategory.equals("D")) {
-            Specialty doctorSpecialty = Specialty.valueOf(details[5].trim()); // Make sure it matches the enum
-            String npiNumber = details[6].trim();
-            return new Doctor(new Profile(firstName, lastName, dateOfBirth), workLocation, doctorSpecialty, npiNumber);
-        } else if (providerCategory.equals("T")) {
-            int visitRate = Integer.parseInt(details[5].trim());
-            return new Technician(new Profile(firstName, lastName, dateOfBirth), workLocation, visitRate);
-        }
-
-        // return null if neither
-        return null;
-    }
-
     /**
      * Runs the Clinic Manager application, processes user input, and executes commands.
      */
     public void run() {
-        System.out.println("Clinic Manager is running...\n");
+        out.println("Clinic Manager is running...\n");
         Scanner sc = new Scanner(System.in);
 
         boolean running = true;
@@ -173,14 +204,7 @@ public class ClinicManager {
                 break; // Break the loop if no input is available
             }
 
-            String userInput = sc.nextLine().trim();
-            if (userInput.isEmpty()) continue; // Ignore empty lines
-
-            String[] tokens = userInput.split(",");
-            String command = tokens[0].trim();
-
-            // Execute the command using a separate method
-            running = executeCommand(command, tokens); // Update the running status based on command execution
+            running = execute(sc.nextLine()); // Update the running status based on command execution
         }
 
 
@@ -188,215 +212,159 @@ public class ClinicManager {
     }
 
     /**
-     * Executes  specified command with its associated arguments for managing clinic appointments.
-     * @return False if program is terminated
-     */
-    private boolean executeCommand(String command, String[] tokens) {
-        switch (command) {
-            case "D":
-                scheduleWithADoctor(tokens);
-                break;
-            case "T":
-                scheduleWithATech(tokens);
-                break;
-            case "R":
-                reschedule(tokens);
-                break;
-            case "C":
-                cancel(tokens);
-                break;
-            case "PO":
-                printOnlyOfficeAppointments();
-                break;
-            case "PI":
-                printOnlyImagingAppointments();
-                break;
-            case "PA":
-                DateSort();
-                break;
-            case "PP":
-                patientSort();
-                break;
-            case "PL":
-                countySort();
-                break;
-            case "PS":
-                billingStatement();
-                break;
-            case "PC":
-                providerCredits();
-                break;
-            case "Q":
-                System.out.println("Clinic Manager terminated.\n");
-                return false; // Stop the loop
-            default:
-                System.out.println("Invalid command!");
-        }
-        return true; // Continue running
-    }
-
-
-    /**
-     * converts a string to a date object
+     * Runs every command read from a reader, as run() does for the console.
+     * The output stream is flushed after every flushInterval lines and at the end,
+     * so a buffered stream only reaches the console or file in large writes.
+     * The journal, if any, is written to disk just before each flush instead of after every change,
+     * so no flushed answer reports a change that is not yet on disk.
      *
-     * @param dateStr A string that has a format of  "MM/DD/YYYY".
-     * @return A Date object or null if the format is invalid.
+     * @param reader        The reader the commands are read from.
+     * @param flushInterval The number of lines between flushes of the output stream.
+     * @throws IOException if the commands cannot be read.
      */
-    private static Date convertToDate(String dateStr) {
-        String[] dateTokens = dateStr.split("/");
-        if (dateTokens.length != 3) {
-            return null;  // Invalid date format
-        }
+    public void runBatch(ChannelLineReader reader, int flushInterval) throws IOException {
+        out.println("Clinic Manager is running...\n");
 
-        int month = Integer.parseInt(dateTokens[0]);
-        int day = Integer.parseInt(dateTokens[1]);
-        int year = Integer.parseInt(dateTokens[2]);
-        return new Date(month, day, year);  // Return new Date object
+        core.setDeferSync(true);
+        try {
+            int linesSinceFlush = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                boolean running = execute(line);
+                if (++linesSinceFlush >= flushInterval) {
+                    core.syncJournal();
+                    out.flush();
+                    linesSinceFlush = 0;
+                }
+                if (!running) {
+                    break;
+                }
+            }
+            core.syncJournal();
+            out.flush();
+        } finally {
+            core.setDeferSync(false);
+        }
     }
 
     /**
-     * Validates the provided date of birth (DOB).
-     *
-     * Checks if the DOB is:
-     * - A valid date.
-     * - Not today's date.
-     * - Not a future date.
+     * Runs the commands of one network terminal, as run() does for the console.
+     * The output stream is flushed after every command, so the terminal sees each answer at once.
      *
-     * @param dobStr the date of birth as a string.
-     * @return {@code true} if valid; {@code false} otherwise.
+     * @param reader The reader the commands are read from.
+     * @throws IOException if the commands cannot be read.
      */
-    private static boolean checkDOB(String dobStr) {
-        Date dob = convertToDate(dobStr);
+    public void serve(BufferedReader reader) throws IOException {
+        out.println("Clinic Manager is running...\n");
+        out.flush();
 
-        // Check if the date is null, meaning it couldn't be parsed correctly
-        if (dob == null || !dob.isValid()) {
-            System.out.println("Patient dob: " + dobStr + " is not a valid calendar date");
-            return false; // Invalid date
-        }
-
-        // Check if the DOB is today
-        if (dob.isToday()) {
-            System.out.println("Patient dob: " + dobStr + " is today or a date after today.");
-            return false;
-        }
-
-        // Check if the DOB is in the future
-        Calendar today = Calendar.getInstance();
-        Date todayDate = new Date(today.get(Calendar.MONTH) + 1, today.get(Calendar.DAY_OF_MONTH), today.get(Calendar.YEAR));
-        if (dob.compareTo(todayDate) > 0) {
-            System.out.println("Patient dob: " + dobStr + " is today or a date after today.");
-            return false;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            boolean running = execute(line);
+            out.flush();
+            if (!running) {
+                break;
+            }
         }
-
-        return true; // DOB is valid
     }
 
     /**
-     * checks if appointment is valid based on these criteria
-     * - A valid calendar date.
-     * - Not today or in the past.
-     * - Not on a weekend (Saturday or Sunday).
-     * - Within six months from the current date.
+     * Executes one line of input. Empty lines are ignored.
      *
-     * @param dateStr the appointment date as a string.
-     * @return true if the date is valid and false if not.
+     * @param line The line as it was read.
+     * @return False if the line terminated the program.
      */
-    private static boolean validateAppointmentDate(String dateStr) {
-        Date appointmentDate = convertToDate(dateStr);
-
-        if (!appointmentDate.isValid()) {
-            System.out.println("Appointment date: " + dateStr + " is not a valid calendar date");
-            return false;
-        }
-
-        if (appointmentDate.isToday() || appointmentDate.isInThePast()) {
-            System.out.println("Appointment date: " + dateStr + " is today or a date before today.");
-            return false;
-        }
-
-        if (appointmentDate.Weekend()) {
-            System.out.println("Appointment date: " + dateStr + " is Saturday or Sunday.");
-            return false;
-        }
-
-        if (!(appointmentDate.WithinSixMonths())) {
-            System.out.println("Appointment date: " + dateStr + " is not within six months.");
-            return false;
-        }
+    public boolean execute(String line) {
+        String userInput = line.trim();
+        if (userInput.isEmpty()) return true; // Ignore empty lines
 
-        return true;
+        // Execute the command using a separate method
+        return executeCommand(commandParser.parse(userInput));
     }
 
     /**
-     * makes a Timeslot object from a String
-     *
-     * @param timeslotStr The string representation of the timeslot (1 to 12).
-     * @return  Timeslot object or null if the input is invalid.
+     * Executes  specified command with its associated arguments for managing clinic appointments.
+     * @return False if program is terminated
      */
-    private Timeslot convertToTimeslot(String timeslotStr) {
-        int slotIndex;
-        try {
-            slotIndex = Integer.parseInt(timeslotStr.trim()); // Parse the string as an integer
-            if (slotIndex >= 1 && slotIndex <= Timeslot.SLOTS.length) {
-                return Timeslot.SLOTS[slotIndex - 1]; // Convert slot number to zero-based index
-            } else {
-                return null; // Invalid slot number
+    private boolean executeCommand(Command command) {
+        if (command instanceof Command.BookOffice bookOffice) {
+            scheduleWithADoctor(bookOffice);
+        } else if (command instanceof Command.BookImaging bookImaging) {
+            scheduleWithATech(bookImaging);
+        } else if (command instanceof Command.Reschedule reschedule) {
+            reschedule(reschedule);
+        } else if (command instanceof Command.Cancel cancel) {
+            cancel(cancel);
+        } else if (command instanceof Command.Print print) {
+            print(print);
+        } else if (command instanceof Command.Incomplete incomplete) {
+            // D and C end the message with a period, T and R do not
+            switch (incomplete) {
+                case BOOK_OFFICE, CANCEL -> out.println("Missing data tokens.");
+                case BOOK_IMAGING, RESCHEDULE -> out.println("Missing data tokens");
             }
-        } catch (NumberFormatException e) {
-            return null; // If the input is not a valid number
+        } else if (command == Command.Control.QUIT) {
+            out.println("Clinic Manager terminated.\n");
+            return false; // Stop the loop
+        } else {
+            out.println("Invalid command!");
         }
+        return true; // Continue running
     }
 
     /**
-     * makes a string into a Location enum value.
+     * Runs one of the print commands.
      *
-     * @param locationString The string representation of the location.
-     * @return The matching Location enum, or throws an exception if invalid.
+     * @param print The print command.
      */
-    private Location convertToLocation(String locationString) {
-        for (Location loc : Location.values()) {
-            if (loc.name().equalsIgnoreCase(locationString)) {
-                return loc;
-            }
+    private void print(Command.Print print) {
+        switch (print) {
+            case PO -> printOnlyOfficeAppointments();
+            case PI -> printOnlyImagingAppointments();
+            case PA -> DateSort();
+            case PP -> patientSort();
+            case PL -> countySort();
+            case PS -> billingStatement();
+            case PC -> providerCredits();
         }
-        throw new IllegalArgumentException("Error: Unknown location '" + locationString + "'.");
     }
 
-
     /**
-     * Reschedules an existing office appointment based on provided command tokens.
+     * Validates the date of birth of a booking.
      *
-     * @param tokens An array of strings representing the command and its parameters.
-     */
-    private void reschedule(String[] tokens) {
-        // checking length of tokens
-        if (!isValidRescheduleInput(tokens)) {
-            return;
+     * Checks if the DOB is:
+     * - A valid date.
+     * - Not today's date.
+     * - Not a future date.
+     *
+     * @param booking the booking holding the parsed date of birth.
+     * @return the date of birth if valid; null otherwise.
+     */
+    private Date getDateOfBirth(Command.Booking booking) {
+        switch (booking.dobResult()) {
+            case INVALID:
+                out.println("Patient dob: " + booking.dobText() + " is not a valid calendar date");
+                return null;
+            case TODAY_OR_AFTER:
+                out.println("Patient dob: " + booking.dobText() + " is today or a date after today.");
+                return null;
+            default:
+                return booking.dob(); // DOB is valid
         }
-
-        //convert from string to proper date types
-        Date appointmentDate = convertToDate(tokens[1]);
-        Timeslot oldTimeslot = convertToTimeslot(tokens[2]);
-        Profile patientProfile = new Profile(tokens[3].trim(), tokens[4].trim(), convertToDate(tokens[5].trim()));
-        Timeslot newTimeslot = convertToTimeslot(tokens[6]);
-
-        // rescheduling appointment
-        tryToReschedule(appointmentDate, oldTimeslot, patientProfile, newTimeslot);
     }
+
     /**
-     * Checks if the provided token array has exactly 7 elements.
-     * Prints an error message if the count is invalid.
+     * Reschedules an existing office appointment.
      *
-     * @param tokens the command tokens
-     * @return true if valid; false otherwise
+     * @param command The parsed R command.
      */
-    private boolean isValidRescheduleInput(String[] tokens) {
-        //checks token length
-        if (tokens.length != 7) {
-            System.out.println("Missing data tokens");
-            return false;
+    private void reschedule(Command.Reschedule command) {
+        if (command.newTimeslot() == null) {
+            out.println(command.newTimeslotText() + " is not a valid time slot.");
+            return;
         }
-        return true;
+        // rescheduling appointment
+        tryToReschedule(command.date(), command.oldTimeslot(), command.patient(), command.newTimeslot());
     }
 
     /**
@@ -410,431 +378,195 @@ public class ClinicManager {
      * @param newTimeslot the desired new timeslot for the appointment
      */
     private void tryToReschedule(Date appointmentDate, Timeslot oldTimeslot, Profile patientProfile, Timeslot newTimeslot) {
-        // Find the appointment to reschedule
-        Appointment rescheduleAppointment = FindAppointment(appointmentDate, oldTimeslot, patientProfile);
-
-        if (rescheduleAppointment == null) {
-            System.out.println(appointmentDate + " " + oldTimeslot + " " + patientProfile.getFname() + " " + patientProfile.getLname() + " " + patientProfile.getDob() + " does not exist.");
-            return;
-        }
-
-        // Check if appointment is an imaging appointment
-        if (rescheduleAppointment instanceof Imaging) {
-            System.out.println("Imaging appointments cannot be rescheduled.");
-            return;
-        }
-
-        Patient patient = (Patient) rescheduleAppointment.getPatient();
-        Provider provider = (Provider) rescheduleAppointment.getProvider();
-
-        // Checking for conflicts
-        if (checkIfAppointmentExists(patient, appointmentDate, newTimeslot)) {
-            System.out.println(patientProfile.toString() + " has an existing appointment at " + appointmentDate + " " + newTimeslot.toString());
-            return;
-        }
-
-        //    // Check the provider's availability for the new timeslot
-        Appointment newAppointment = new Appointment(appointmentDate, newTimeslot, patient, provider);
-        if (!isDocAvailable(provider, newAppointment)) {
-            System.out.println(provider.toString() + " is not available at slot " + newTimeslot.getSlot() + ".");
-            return;
-        }
-
-        // replace old with new
-        updateAppointment(rescheduleAppointment, newAppointment);
-        System.out.println("Rescheduled to " + newAppointment.toString());
-    }
-
-    private void updateAppointment(Appointment oldAppointment, Appointment newAppointment) {
-        appointmentList.remove(oldAppointment);
-        appointmentList.add(newAppointment);
-    }
-
-    /**
-     * Checks doctor's availability for the given appointment.
-     *
-     * @param provider The doctor to check.
-     * @param newAppointment The new appointment to check against existing ones.
-     * @return true if the doctor is available and false if they are already booked
-     */
-    private boolean isDocAvailable(Provider provider, Appointment newAppointment) {
-        // Ensure the provider is a Doctor
-        if (!(provider instanceof Doctor)) {
-            return false; // Not a doctor
-        }
-
-        Doctor doctor = (Doctor) provider; // Cast provider to Doctor
-
-        // Iterate through existing appointments to check for conflicts
-        for (Appointment existingAppointment : appointmentList) {
-            if (isSameDoctor(doctor, existingAppointment) && isSameDateAndTimeslot(newAppointment, existingAppointment)) {
-                return false; // Doctor is busy
-            }
-        }
-        return true; // Doctor is available
-    }
-
-
-    /**
-     * Checks if doctors are the same for a given appointment
-     *
-     * @param doctor The doctor to compare against.
-     * @param appointment The appointment to check.
-     * @return true if both refer to the same doctor, false otherwise.
-     */
-    private boolean isSameDoctor(Doctor doctor, Appointment appointment) {
-        return appointment.getProvider() instanceof Doctor &&
-                ((Doctor) appointment.getProvider()).getNpi().equals(doctor.getNpi());
-    }
-
-    /**
-     * checks if the date and timeslot are the same for two appointments
-     *
-     * @param newAppointment The new appointment to check.
-     * @param existingAppointment The existing appointment to compare with.
-     * @return true if both appointments have the same date and timeslot, false otherwise.
-     */
-    private boolean isSameDateAndTimeslot(Appointment newAppointment, Appointment existingAppointment) {
-        return newAppointment.getDate().equals(existingAppointment.getDate()) &&
-                newAppointment.getTimeslot().equals(existingAppointment.getTimeslot());
-    }
-
-    /**
-     * finds an appointment based on Date, time and patient profile
-     *
-     * @param appointmentDate The date of the appointment.
-     * @param timeslot The old timeslot of the appointment.
-     * @param patientProfile The patient's profile.
-     * @return The matching appointment if found; null otherwise.
-     */
-    private Appointment FindAppointment(Date appointmentDate, Timeslot timeslot, Profile patientProfile) {
-        for (Appointment appointment : appointmentList) {
-            if (isMatchingAppointment(appointment, appointmentDate, timeslot, patientProfile)) {
-                return appointment; // found appointment
-            }
-        }
-        return null; // no matching appointment
-    }
-
-    /**
-     * checks if the appointments match
-     * and patient profile.
-     *
-     * @param appointment The appointment to check.
-     * @param appointmentDate The date to match.
-     * @param timeslot The timeslot to match.
-     * @param patientProfile The patient's profile to match.
-     * @return true if the appointment matches; false otherwise.
-     */
-    private boolean isMatchingAppointment(Appointment appointment, Date appointmentDate, Timeslot timeslot, Profile patientProfile) {
-        Profile appointmentProfile = appointment.getPatient().getProfile();
-        return appointmentProfile.getFname().equalsIgnoreCase(patientProfile.getFname()) &&
-                appointmentProfile.getLname().equalsIgnoreCase(patientProfile.getLname()) &&
-                appointment.getDate().equals(appointmentDate) &&
-                appointment.getTimeslot().equals(timeslot);
-    }
-
-    /**
-     * checks if the patient has an existing appointment already
-     *
-     * @param patient   The patient whose appointments are being checked.
-     * @param date      The date of the appointment to verify.
-     * @param timeslot  The timeslot of the appointment to verify.
-     * @return true if the patient has a scheduled appointment at the specified date and timeslot; false otherwise.
-     */
-    private boolean checkIfAppointmentExists(Patient patient, Date date, Timeslot timeslot) {
-        for (Appointment appointment : appointmentList) {
-            if (isMatchingAppointment(appointment, date, timeslot, patient.getProfile())) {
-                return true; //appointment exists
-            }
-        }
-        return false; // appointment does not exists
-    }
-
-    /**
-     * converts string to an imaging room.
-     *
-     * @param imagingService the string representation of the imaging service
-     * @return the corresponding Radiology enum value, or null if the service is invalid
-     */
-    private Radiology convertToImagingService(String imagingService) {
-        try {
-            return Radiology.valueOf(imagingService.trim().toUpperCase());
-        } catch (IllegalArgumentException e) {
-            return null; // Invalid service
+        SchedulingCore.Result result = appointmentDate == null || oldTimeslot == null
+                ? new SchedulingCore.Result(SchedulingCore.Status.NOT_FOUND, null) // No appointment is at an invalid date or slot
+                : core.reschedule(appointmentDate, oldTimeslot, patientProfile, newTimeslot);
+        switch (result.status()) {
+            case NOT_FOUND -> out.println(appointmentDate + " " + oldTimeslot + " " + patientProfile.getFname() + " " + patientProfile.getLname() + " " + patientProfile.getDob() + " does not exist.");
+            case IMAGING -> out.println("Imaging appointments cannot be rescheduled.");
+            case PATIENT_CONFLICT -> out.println(patientProfile.toString() + " has an existing appointment at " + appointmentDate + " " + newTimeslot.toString());
+            case PROVIDER_UNAVAILABLE -> out.println(result.appointment().getProvider().toString() + " is not available at slot " + newTimeslot.getSlot() + ".");
+            default -> renderer.printLine("Rescheduled to ", result.appointment(), "");
         }
     }
 
     /**
      * Cancels an appointment (office or imaging).
      *
-     * @param tokens Array of strings containing appointment details
+     * @param command The parsed C command.
      */
-    private void cancel(String[] tokens) {
-        if (tokens.length != 6) {
-            System.out.println("Missing data tokens.");
-            return;
-        }
-
-        Date schuduledDate = convertToDate(tokens[1]);
-        Timeslot timeslot = convertToTimeslot(tokens[2]);
-        Profile patientProfile = new Profile(tokens[3].trim(), tokens[4].trim(), convertToDate(tokens[5].trim()));
-        Appointment cancelAppointment = FindAppointment(schuduledDate, timeslot, patientProfile);
+    private void cancel(Command.Cancel command) {
+        Date schuduledDate = command.date();
+        Timeslot timeslot = command.timeslot();
+        Profile patientProfile = command.patient();
+        SchedulingCore.Result result = schuduledDate == null || timeslot == null
+                ? new SchedulingCore.Result(SchedulingCore.Status.NOT_FOUND, null) // No appointment is at an invalid date or slot
+                : core.cancel(schuduledDate, timeslot, patientProfile);
 
-        if (cancelAppointment != null) { // If found
-            appointmentList.remove(cancelAppointment); // Remove the appointment
-            System.out.println(schuduledDate + " " + timeslot + " " +patientProfile.toString() + " - appointment has been canceled.");
+        if (result.status() == SchedulingCore.Status.CANCELED) { // If found and removed
+            out.println(schuduledDate + " " + timeslot + " " +patientProfile.toString() + " - appointment has been canceled.");
         } else {
-            System.out.println(schuduledDate + " " + timeslot + " " +patientProfile.toString() + " - appointment does not exist.");
+            out.println(schuduledDate + " " + timeslot + " " +patientProfile.toString() + " - appointment does not exist.");
         }
     }
 
     /**
      * Schedules an imaging appointment
      *
-     * @param tokens The command tokens containing appointment details.
+     * @param command The parsed T command.
      */
-    private void scheduleWithATech(String[] tokens) {
-        // Validate command tokens for T (Imaging appointment)
-        if (!isValidCommand(tokens)) {
-            return;
-        }
-
-        Date scheduledDate = getScheduledDate(tokens[1]);
+    private void scheduleWithATech(Command.BookImaging command) {
+        Command.Booking booking = command.booking();
+        Date scheduledDate = getScheduledDate(booking);
         if (scheduledDate == null) return;
 
-        Timeslot timeslot = getTimeslot(tokens[2]);
+        Timeslot timeslot = getTimeslot(booking);
         if (timeslot == null) return;
 
-        if (!checkDOB(tokens[5])) {
+        Date dateOfBirth = getDateOfBirth(booking);
+        if (dateOfBirth == null) {
             return;
         }
 
-        Patient patient = createPatient(tokens);
-        if (checkIfAppointmentExists(patient, scheduledDate, timeslot)) {
-            System.out.println(patient.getProfile() + " has an existing appointment at the same time slot.");
+        Profile patientProfile = createProfile(booking, dateOfBirth);
+        if (patientProfile == null) {
+            return;
+        }
+        Radiology room = command.room();
+        if (room == null) { // The conflict is still reported first
+            if (core.hasAppointment(scheduledDate, timeslot, patientProfile)) {
+                out.println(patientProfile + " has an existing appointment at the same time slot.");
+            } else {
+                getImagingService(command);
+            }
             return;
         }
 
-        Radiology room = getImagingService(tokens[6]);
-        if (room == null) return;
-
-        Technician tech = findAvailableTechnician(timeslot, room);
-        if (tech == null) return;
-
-        bookImagingAppointment(scheduledDate, timeslot, patient, tech, room);
-    }
-
-    /**
-     * check token length and if using inputs "T" for technican.
-     *
-     * @param tokens The command tokens.
-     * @return True if the command is valid and false otherwise.
-     */
-    private boolean isValidCommand(String[] tokens) {
-        if (tokens.length != 7 || !tokens[0].equalsIgnoreCase("T")) {
-            System.out.println("Missing data tokens");
-            return false;
+        SchedulingCore.Result result = core.bookImaging(scheduledDate, timeslot, patientProfile, room);
+        switch (result.status()) {
+            case PATIENT_CONFLICT -> out.println(patientProfile + " has an existing appointment at the same time slot.");
+            case NO_TECHNICIAN -> out.println("Cannot find an available technician at all locations for " + room.name() + " at slot " + timeslot.getSlot() + ".");
+            default -> renderer.printLine("", result.appointment(), " booked.");
         }
-        return true;
     }
 
     /**
-     * gets a date from a string
+     * gets the appointment date of a booking and checks if it is valid based on these criteria
+     * - A valid calendar date.
+     * - Not today or in the past.
+     * - Not on a weekend (Saturday or Sunday).
+     * - Within six months from the current date.
+     * The date was checked when the command was parsed; the first failed check is printed.
      *
-     * @param dateString The date string t
+     * @param booking The booking holding the parsed appointment date.
      * @return  Date object or null if invalid.
      */
-    private Date getScheduledDate(String dateString) {
-        if (!validateAppointmentDate(dateString)) {
-            return null;
+    private Date getScheduledDate(Command.Booking booking) {
+        String dateString = booking.dateText();
+        switch (booking.dateResult()) {
+            case INVALID:
+                out.println("Appointment date: " + dateString + " is not a valid calendar date");
+                return null;
+            case TODAY_OR_BEFORE:
+                out.println("Appointment date: " + dateString + " is today or a date before today.");
+                return null;
+            case WEEKEND:
+                out.println("Appointment date: " + dateString + " is Saturday or Sunday.");
+                return null;
+            case BEYOND_SIX_MONTHS:
+                out.println("Appointment date: " + dateString + " is not within six months.");
+                return null;
+            default:
+                return booking.date();
         }
-        return convertToDate(dateString);
     }
 
     /**
-     * find timeslot from a string
+     * gets the timeslot of a booking
      *
-     * @param timeslotString The timeslot string
+     * @param booking The booking holding the parsed timeslot.
      * @return Timeslot object or null if invalid.
      */
-    private Timeslot getTimeslot(String timeslotString) {
-        Timeslot timeslot = convertToTimeslot(timeslotString);
+    private Timeslot getTimeslot(Command.Booking booking) {
+        Timeslot timeslot = booking.timeslot();
         if (timeslot == null) {
-            System.out.println(timeslotString + " is not a valid time slot.");
+            out.println(booking.timeslotText() + " is not a valid time slot.");
         }
         return timeslot;
     }
 
     /**
-     * creates a patient object based on user input
+     * makes the patient profile of a booking; the core registers the patient when it books
+     * Names too long to be journaled are refused.
      *
-     * @param tokens The command tokens containing patient information.
-     * @return A Patient object
+     * @param booking The booking holding the patient's names.
+     * @param dateOfBirth The patient's validated date of birth.
+     * @return The patient's profile, or null if a name is too long.
      */
-    private Patient createPatient(String[] tokens) {
-        Profile patientProfile = new Profile(tokens[3].trim(), tokens[4].trim(), convertToDate(tokens[5]));
-        return new Patient(patientProfile);
+    private Profile createProfile(Command.Booking booking, Date dateOfBirth) {
+        Profile profile = new Profile(booking.fname(), booking.lname(), dateOfBirth);
+        if (!SchedulingCore.fitsJournal(profile)) {
+            out.println("Patient name is longer than " + Journal.MAX_NAME_LENGTH + " characters.");
+            return null;
+        }
+        return profile;
     }
 
     /**
-     * finds imaging services from a string
+     * gets the imaging service of a T command
      *
-     * @param serviceString The service string
+     * @param command The parsed T command.
      * @return Radiology object or null if invalid.
      */
-    private Radiology getImagingService(String serviceString) {
-        Radiology room = convertToImagingService(serviceString);
+    private Radiology getImagingService(Command.BookImaging command) {
+        Radiology room = command.room();
         if (room == null) {
-            System.out.println(serviceString + " - imaging service not provided.");
+            out.println(command.serviceText() + " - imaging service not provided.");
         }
         return room;
     }
     /**
-     * see if technician's availability for a given timeslot
-     *
-     * @param timeslot  requested timeslot.
-     * @param room  imaging service being requested.
-     * @return The available Technician or null if technician not found.
-     */
-    private Technician findAvailableTechnician(Timeslot timeslot, Radiology room) {
-        Technician tech = findATech(timeslot, room);
-        if (tech == null) {
-            System.out.println("Cannot find an available technician at all locations for " + room.name() + " at slot " + timeslot.getSlot() + ".");
-        }
-        return tech;
-    }
-
-    /**
-     * Books the imaging appointment and adds it to the appointment list.
-     *
-     * @param scheduledDate The date of the appointment.
-     * @param timeslot     The timeslot for the appointment.
-     * @param patient      The patient for the appointment.
-     * @param tech         The technician assigned to the appointment.
-     * @param room         The imaging service for the appointment.
-     */
-    private void bookImagingAppointment(Date scheduledDate, Timeslot timeslot, Patient patient, Technician tech, Radiology room) {
-        Imaging imaging = new Imaging(scheduledDate, timeslot, patient, tech, room);
-        appointmentList.add(imaging);
-        // Output booking information
-        System.out.println(scheduledDate + " " + timeslot + " " + patient + " " + tech + "[" + room + "] booked.");
-    }
-
-    /**
-     * Finds a technician for a given timeslot and imaging service.
-     *
-     * @param timeslot the timeslot user requests
-     * @param room     the imaging service room user requests
-     * @return  a Technician or null if none is found
-     */
-    private Technician findATech(Timeslot timeslot, Radiology room) {
-        for (int i = 0; i < technicianList.size(); i++) {
-            Technician tech = technicianList.getNext(); // Get the next technician in the rotation
-
-            if (isTechnAvailable(tech, timeslot, room)) {
-                return tech; // Technician is available, return immediately
-            }
-        }
-
-        // If no technician is found return null
-        return null;
-    }
-
-    /**
-     *see if a technician is open at a given timeslot and toom
-     * @param technician  technician to check for availability
-     * @param timeslot   the timeslot user requested
-     * @param room       the imaging service user requested
-     * @return true if the technician is free and false otherwise
-     */
-    private boolean isTechnAvailable(Technician technician, Timeslot timeslot, Radiology room) {
-        // Iterate through all appointments to see if the technician is booked for this timeslot and room
-        for (Appointment appointment : appointmentList) {
-            if (isTechnicianBooked(technician, appointment, timeslot) ||
-                    isRoomAvailable(appointment, room, timeslot, technician.getLocation())) {
-                return false; // Technician or room is already booked
-            }
-        }
-        return true; // Technician and room are both available
-    }
-
-    /**
-     * check if the user's requested technician is busy at the time and room they requested
-     *
-     * @param technician The technician user requested
-     * @param appointment The appointment to check
-     * @param timeslot The timeslot user requested
-     * @return true if the technician is busy and false otherwise.
-     */
-    private boolean isTechnicianBooked(Technician technician, Appointment appointment, Timeslot timeslot) {
-        return appointment instanceof Imaging &&
-                appointment.getProvider().equals(technician) &&
-                appointment.getTimeslot().equals(timeslot);
-    }
-
-    /**
-     * see if the imaging room that the user requested is taken
-     *
-     * @param appointment The appointment to check against.
-     * @param room The imaging service room to compare.
-     * @param timeslot The timeslot to compare.
-     * @param technicianLocation The location of the technician.
-     * @return true if the room is taken and false if not.
-     */
-    private boolean isRoomAvailable(Appointment appointment, Radiology room, Timeslot timeslot, Location technicianLocation) {
-        return appointment instanceof Imaging &&
-                ((Imaging) appointment).getRoom().equals(room) &&
-                appointment.getTimeslot().equals(timeslot) &&
-                ((Provider) appointment.getProvider()).getLocation().equals(technicianLocation);
-    }
-
-    /**
-     * Schedules an appointment with a doctor using the provided command tokens.
+     * Schedules an appointment with a doctor using a parsed D command.
      *
-     * Validates input, converts tokens to relevant types, creates a patient,
+     * Validates input, creates a patient,
      * retrieves the doctor by NPI, and adds the appointment to the list if valid.
      *
-     * @param tokens An array of strings containing the command data for scheduling.
+     * @param command The parsed D command.
      */
-    private void scheduleWithADoctor(String[] tokens) {
-        // Check for D command
-        if (tokens.length != 7 || !tokens[0].equalsIgnoreCase("D")) {
-            System.out.println("Missing data tokens.");
-            return;
-        }
+    private void scheduleWithADoctor(Command.BookOffice command) {
+        Command.Booking booking = command.booking();
+        Date appointmentDate = getScheduledDate(booking);
+        if (appointmentDate == null) return;
 
-        if (!validateAppointmentDate( tokens[1])) return;
-        Date appointmentDate = convertToDate(tokens[1]);
+        Timeslot timeslot = getTimeslot(booking);
+        if (timeslot == null) return;
 
-        Timeslot timeslot = convertToTimeslot(tokens[2]);
-        if (timeslot == null) {
-            System.out.println(tokens[2] + " is not a valid time slot.");
-            return;
-        }
-        if (!checkDOB(tokens[5])) {
+        Date dateOfBirth = getDateOfBirth(booking);
+        if (dateOfBirth == null) {
             return; // Stop if the DOB is invalid
         }
 
-        // Get patient information from the command line and create a Patient object
-        Profile patientProfile = new Profile(tokens[3].trim(), tokens[4].trim(), convertToDate(tokens[5]));
-        Patient patient = new Patient(patientProfile);
+        // Get patient information from the command line
+        Profile patientProfile = createProfile(booking, dateOfBirth);
+        if (patientProfile == null) {
+            return;
+        }
 
         // Get the NPI from the command
-        String npi = tokens[6].trim();
+        String npi = command.npi();
         Doctor provider = findDoctorThroughNPI(npi);
         if (provider == null) {
-            System.out.println(npi + " - provider doesn't exist.");
+            out.println(npi + " - provider doesn't exist.");
             return;
         }
 
-        // Pass the Patient and Doctor (both are Person types) to the Appointment constructor
-        Appointment newAppointment = new Appointment(appointmentDate, timeslot, patient, provider);
-
-        if (!isAppointmentSchedulable(newAppointment, provider)) return;
-
-        appointmentList.add(newAppointment);
-        System.out.println(newAppointment.toString() + " booked.");
+        // The core checks for conflicts and books the appointment in one step
+        SchedulingCore.Result result = core.bookOffice(appointmentDate, timeslot, patientProfile, provider);
+        switch (result.status()) {
+            case PATIENT_CONFLICT -> out.println(patientProfile.toString() + " has an existing appointment at the same time slot.");
+            case PROVIDER_UNAVAILABLE -> out.println(provider.toString() + " is not available at slot " + timeslot.getSlot());
+            default -> renderer.printLine("", result.appointment(), " booked.");
+        }
     }
 
 
@@ -845,62 +577,17 @@ public class ClinicManager {
      * @return The Doctor object if found; otherwise, null.
      */
     private Doctor findDoctorThroughNPI(String nationalProviderIdentifier) {
-        for (int i = 0; i < providerList.size(); i++) {
-            Provider currentProvider = providerList.get(i);
-            if (currentProvider instanceof Doctor && ((Doctor) currentProvider).getNpi().equals(nationalProviderIdentifier)) {
-                return (Doctor) currentProvider; // Return found Doctor
-            }
-        }
-        return null; // No doctor found
-    }
-
-    /**
-     * Determines if a proposed appointment can be scheduled.
-     *
-     * Checks for conflicts with existing appointments and verifies the provider's availability.
-     *
-     * @param proposedAppointment The appointment to be scheduled.
-     * @param assignedProvider The provider assigned to the appointment.
-     * @return true if the appointment can be scheduled; false otherwise.
-     */
-    private boolean isAppointmentSchedulable(Appointment proposedAppointment, Provider assignedProvider) {
-        // Check for conflicts with existing appointments
-        if (appointmentList.contains(proposedAppointment)) {
-            System.out.println(proposedAppointment.getPatient().getProfile().toString() + " has an existing appointment at the same time slot.");
-            return false; // Appointment cannot be scheduled due to conflict
-        }
-
-        // Check if the provider is available for the proposed appointment
-        if (!isDocAvailable(assignedProvider, proposedAppointment)) {
-            System.out.println(assignedProvider.toString() + " is not available at slot " + proposedAppointment.getTimeslot().getSlot());
-            return false; // Provider is not available
-        }
-
-        return true; // Appointment can be scheduled
+        return providerCatalog.findDoctor(nationalProviderIdentifier); // null if no doctor found
     }
 
     /**
      * Prints all office appointments sorted by county, date, and time.
      *
      * If the schedule is empty, a message is displayed indicating that there are no appointments.
-     * Only non-imaging appointments are printed.
+     * Only non-imaging appointments are printed, walking the store's office view.
      */
     private void printOnlyOfficeAppointments() {
-        if (appointmentList.isEmpty()) {
-            System.out.println("Schedule calendar is empty.");
-            return; // Exit the method early if there are no appointments
-        } else {
-            System.out.println();
-            sort.appointment(appointmentList, 'O');
-            System.out.println("** List of office appointments ordered by county/date/time.");
-            for (int i = 0; i < appointmentList.size(); i++) {
-                Appointment appointment = appointmentList.get(i);
-                if (!(appointment instanceof Imaging)) {
-                    System.out.println(appointment);
-                }
-            }
-            System.out.println("** end of list **");
-        }
+        list(store -> printList("** List of office appointments ordered by county/date/time.", store, store.officeByCounty()));
     }
 
     /**
@@ -908,59 +595,26 @@ public class ClinicManager {
      * if empty, will display "Schedule calendar is empty."
      */
     private void DateSort() {
-        if (appointmentList.isEmpty()) {
-            System.out.println("Schedule calendar is empty.");
-            return; // Exits method
-        } else {
-            System.out.println();
-            sort.appointment(appointmentList, 'A' );
-            System.out.println("** List of appointments, ordered by date/time/provider.");
-            for (int i = 0; i < appointmentList.size(); i++) {
-                System.out.println(appointmentList.get(i));
-            }
-            System.out.println("** end of list **");
-        }
+        list(store -> printList("** List of appointments, ordered by date/time/provider.", store, store.byDateTimeProvider()));
     }
     /**
-     * Sorts and prints the list of appointments by patient name/date/time.
+     * Prints the list of appointments by patient name/date/time.
      *
      * If the appointment list is empty, a message is displayed indicating that there are no appointments.
-     * The sorted list is printed to the console.
+     * The store's patient view is printed to the console.
      */
     private void patientSort() {
-        if (appointmentList.isEmpty()) {
-            System.out.println("Schedule calendar is empty.");
-            return; // Exits method
-        } else {
-            sort.appointment(appointmentList, 'P');
-            System.out.println();
-            System.out.println("** List of appointments, ordered by patient.");
-            for (int i = 0; i < appointmentList.size(); i++) {
-                System.out.println(appointmentList.get(i));
-            }
-            System.out.println("** end of list **");
-        }
+        list(store -> printList("** List of appointments, ordered by patient.", store, store.byPatient()));
     }
 
     /**
-     * Sorts and prints the list of appointments by county/date/time.
+     * Prints the list of appointments by county/date/time.
      *
      * If the appointment list is empty, a message is displayed indicating that there are no appointments.
-     * The sorted list is printed to the console in order of county, date, and time.
+     * The office and imaging county views are printed together in order of county, date, and time.
      */
     private void countySort() {
-        if (appointmentList.isEmpty()) {
-            System.out.println("Schedule calendar is empty.");
-            return; // Exits method
-        } else {
-            sort.appointment(appointmentList, 'L');
-            System.out.println();
-            System.out.println("** List of appointments, ordered by county/date/time.");
-            for (int i = 0; i < appointmentList.size(); i++) {
-                System.out.println(appointmentList.get(i));
-            }
-            System.out.println("** end of list **");
-        }
+        list(store -> printList("** List of appointments, ordered by county/date/time.", store, store.byCounty()));
     }
 
     /**
@@ -968,246 +622,77 @@ public class ClinicManager {
      * If the appointment list is empty, it notifies the user.
      */
     private void printOnlyImagingAppointments() {
-        if (appointmentList.isEmpty()) {
-            System.out.println("Schedule calendar is empty.");
-            return; // Exists method
-        } else {
-            System.out.println();
-            sort.appointment(appointmentList,'I');
-            System.out.println("** List of radiology appointments ordered by county/date/time.");
-            for (int i = 0; i < appointmentList.size(); i++) {
-                Appointment appointment = appointmentList.get(i);
-                if (appointment instanceof Imaging) {
-                    System.out.println(appointment);
-                }
-            }
-            System.out.println("** end of list **");
-        }
+        list(store -> printList("** List of radiology appointments ordered by county/date/time.", store, store.imagingByCounty()));
     }
 
     /**
      * Prints the billing statement ordered by patient. If the appointment list is empty, it notifies the user.
+     * The balance of each patient is read from the store's ledger.
      */
     private void billingStatement() {
-        if (appointmentList.isEmpty()) {
-            System.out.println("Schedule calendar is empty.");
-            return; // Exits method
-        }
-
-        System.out.println("\n** Billing statement ordered by patient. **");
-
-        // Sort the appointmentList by patient (using the key 'P' for patient sorting)
-        sort.appointment(appointmentList, 'P');
-
-        // Array to track printed patients
-        String[] printedNames = new String[appointmentList.size()];
-        int printedCount = 0;
-
-        // Process the appointments
-        processAppointments(printedNames, printedCount);
-
-        clearAppointmentList();
-        System.out.println("** end of list **");
-    }
-
-    /**
-     * Clears the appointment list.
-     */
-    private void clearAppointmentList() {
-        while (!appointmentList.isEmpty()) {
-            Appointment appointment = appointmentList.get(0);
-            appointmentList.remove(appointment);
-        }
-    }
-
-    /**
-     * Adds all visits associated with a patient to the current patient object.
-     * @param currentPatient the patient object to which visits are added
-     * @param patient the original patient whose visits are to be added
-     * @param index the starting index for iteration
-     */
-    private void addPatientVisits(Patient currentPatient, Patient patient, int index) {
-        for (int k = index; k < appointmentList.size(); k++) {
-            Appointment visitAppointment = appointmentList.get(k);
-            if (visitAppointment.getPatient().equals(patient)) {
-                Visit visit = new Visit(visitAppointment);
-                currentPatient.addVisit(visit);
-            } else {
-                break; // Stop when reaching a different patient
-            }
-        }
-    }
-
-    /**
-     * Processes the appointments to generate billing statements.
-     *
-     * @param printedNames An array to track unique patient identifiers that have been printed.
-     * @param printedCount A count of how many unique patients have been printed.
-     */
-    private void processAppointments(String[] printedNames, int printedCount) {
-        // Iterate through the sorted appointmentList
-        for (int i = 0; i < appointmentList.size(); i++) {
-            Appointment appointment = appointmentList.get(i);
-            Patient patient = (Patient) appointment.getPatient();
-
-            // Ensure patient and profile are not null
-            if (patient == null || patient.getProfile() == null) {
-                continue; // Skip if patient or profile is not available
-            }
-
-            String fullName = patient.getProfile().getFname() + " " + patient.getProfile().getLname();
-            String dob = patient.getProfile().getDob().toString(); // Format this as necessary
-
-            // Create a unique identifier for the patient using their full name and DOB
-            String uniqueIdentifier = fullName + " " + dob;
-
-            // Check if this unique identifier has already been printed
-            boolean alreadyPrinted = false;
-            for (int j = 0; j < printedCount; j++) {
-                if (printedNames[j].equals(uniqueIdentifier)) {
-                    alreadyPrinted = true;
-                    break;
+        renderer.hold();
+        try {
+            core.readAndClear(store -> { // The appointment list and the patient registry are cleared afterwards
+                if (store.isEmpty()) {
+                    renderer.println("Schedule calendar is empty.");
+                    return; // Exits method
                 }
-            }
-
-            // If not printed yet, calculate and print the billing statement
-            if (!alreadyPrinted) {
-                Patient currentPatient = new Patient(patient.getProfile());
-                addPatientVisits(currentPatient, patient, i);
-
-                // Calculate the total charges for this patient
-                int totalCharge = currentPatient.charge(); // Calculate the total charges from visits
-
-                // Print the billing statement for the patient
-                System.out.printf("(%d) %s %s [due: $%d.00]%n",
-                        printedCount + 1, fullName, dob, totalCharge);
 
-                // Add to the array to avoid duplicates
-                printedNames[printedCount++] = uniqueIdentifier;
-            }
+                renderer.println("\n** Billing statement ordered by patient. **");
+                renderer.printStatement(store.getLedger());
+                renderer.println("** end of list **");
+            });
+        } finally {
+            renderer.release(); // Written once every other terminal may go on
         }
     }
 
     /**
      * Prints the expected credit amounts for providers based on the appointments.
+     * The credit of each provider is read from the store's ledger.
      * If the appointment list is empty, it notifies the user.
      */
     private void providerCredits() {
-        if (appointmentList.isEmpty()) {
-            System.out.println("Schedule calendar is empty.");
-            return; // Exit the method early if there are no appointments
-        }
-
-        System.out.println("\n** Credit amount ordered by provider. **");
-        List<Provider> uniqueProviders = getUniqueProviders();
-
-        // Track printed providers
-        String[] printedProviders = new String[uniqueProviders.size()];
-        int printedCount = 0;
-
-        // Iterate through the sorted uniqueProviders
-        for (Provider provider : uniqueProviders) {
-            if (provider.getProfile() == null) {
-                continue; // Skip if provider profile is not available
-            }
-
-            String uniqueIdentifier = getUniqueIdentifier(provider);
-
-            // Check if this unique identifier has already been printed
-            if (!hasBeenPrinted(printedProviders, printedCount, uniqueIdentifier)) {
-                int totalCharge = calculateTotalCharge(provider);
-
-                printProviderCredit(provider, totalCharge);
-                printedProviders[printedCount++] = uniqueIdentifier; // Avoid duplicates
-            }
-        }
-
-        System.out.println("** end of list **");
-    }
-
-    /**
-     * Extracts unique providers from the appointment list and sorts them by last name.
-     *
-     * @return A list of unique providers.
-     */    private List<Provider> getUniqueProviders() {
-        List<Provider> uniqueProviders = new List<>();
-        for (int i = 0; i < appointmentList.size(); i++) {
-            Appointment appointment = appointmentList.get(i);
-            Provider provider = (Provider) appointment.getProvider();
-            if (provider != null && !uniqueProviders.contains(provider)) {
-                uniqueProviders.add(provider);
+        list(store -> {
+            if (store.isEmpty()) {
+                renderer.println("Schedule calendar is empty.");
+                return; // Exit early if there are no appointments
             }
-        }
-        sort.provider(uniqueProviders); // Sort the list by last name
-        return uniqueProviders;
-    }
-
-    /**
-     * Creates a unique identifier for the provider based on their type.
-     *
-     * @param provider The provider for which to create the unique identifier.
-     * @return A string representing the unique identifier for the provider.
-     */
-    private String getUniqueIdentifier(Provider provider) {
-        if (provider instanceof Doctor doctor) {
-            return doctor.getName() + " " + doctor.getSpecialty(); // For Doctor
-        } else if (provider instanceof Technician technician) {
-            return technician.getName(); // For Technician
-        }
-        return " ";
-    }
 
-    /**
-     * Checks if a provider has already been printed in the billing statement.
-     *
-     * @param printedProviders An array of printed provider names.
-     * @param printedCount The count of providers that have already been printed.
-     * @param uniqueIdentifier The unique identifier of the provider to check.
-     * @return true if the provider has already been printed; false otherwise.
-     */
-    private boolean hasBeenPrinted(String[] printedProviders, int printedCount, String uniqueIdentifier) {
-        for (int j = 0; j < printedCount; j++) {
-            if (printedProviders[j].equals(uniqueIdentifier)) {
-                return true; // Already printed
-            }
-        }
-        return false; // Not printed yet
+            renderer.println("\n** Credit amount ordered by provider. **");
+            renderer.printCredits(store.getLedger());
+            renderer.println("** end of list **");
+        });
     }
 
     /**
-     * Calculates the total charge for a provider based on their appointments.
+     * Reads the store under the core's lock and prints what the reader renders once the lock is released.
+     * The listing is kept in memory meanwhile, so a terminal whose client stops reading blocks only itself,
+     * never the bookings, statements and snapshots of the other terminals.
      *
-     * @param provider The provider for whom to calculate the total charge.
-     * @return The total charge for the provider.
+     * @param reader The code that renders a listing of the store.
      */
-    private int calculateTotalCharge(Provider provider) {
-        int totalCharge = 0;
-        for (int k = 0; k < appointmentList.size(); k++) {
-            Appointment visitAppointment = appointmentList.get(k);
-            if (visitAppointment.getProvider().equals(provider)) {
-                if (provider instanceof Doctor doctor) {
-                    totalCharge += doctor.rate(); // Rate for Doctor
-                } else if (provider instanceof Technician technician) {
-                    totalCharge += technician.rate(); // Rate for Technician
-                }
-            }
+    private void list(Consumer<AppointmentStore> reader) {
+        renderer.hold();
+        try {
+            core.read(reader);
+        } finally {
+            renderer.release();
         }
-        return totalCharge;
     }
 
     /**
-     * Prints the credit details for a provider based on their total charges.
+     * Prints a listing of the store, or a message if the schedule calendar is empty.
      *
-     * @param provider The provider whose credit details are to be printed.
-     * @param totalCharge The total amount due to the provider.
+     * @param header       The header line of the listing.
+     * @param store        The appointment store, read under the core's lock.
+     * @param appointments The view of the store to print.
      */
-    private void printProviderCredit(Provider provider, int totalCharge) {
-        if (provider instanceof Doctor doctor) {
-            System.out.printf("%s %s [credit amount: $%d.00]%n",
-                    doctor.getName(), doctor.getDob(), totalCharge);
-        } else if (provider instanceof Technician technician) {
-            System.out.printf("%s %s [credit amount: $%d.00]%n",
-                    technician.getName(), technician.getDob(), totalCharge);
+    private void printList(String header, AppointmentStore store, Iterable<Appointment> appointments) {
+        if (store.isEmpty()) {
+            renderer.println("Schedule calendar is empty.");
+        } else {
+            renderer.printList(header, appointments);
         }
     }
 
@@ -0,0 +1,57 @@
+package model;
+
+import org.junit.Before;
+import org.junit.Test;
+import util.Date;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+public class ClinicManagerTest {
+    private static final String NL = System.lineSeparator();
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private ClinicManager manager;
+
+    @Before
+    public void createManager() {
+        manager = new ClinicManager(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        bytes.reset(); // Drop the provider lists
+    }
+
+    /**
+     * Executes one line and returns what it printed.
+     */
+    private String execute(String line) {
+        bytes.reset();
+        manager.execute(line);
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testCancelWithAnInvalidSlotOrDate() {
+        String slot = Timeslot.ofSlot(1).toString();
+        assertEquals("11/4/2024 null John Doe 12/13/1989 - appointment does not exist." + NL,
+                execute("C,11/4/2024,13,John,Doe,12/13/1989"));
+        assertEquals("null " + slot + " John Doe 12/13/1989 - appointment does not exist." + NL,
+                execute("C,abc,1,John,Doe,12/13/1989"));
+        assertEquals(new Date(11, 4, 2024) + " " + slot + " John Doe 12/13/1989 - appointment does not exist." + NL,
+                execute("C,11/4/2024,1,John,Doe,12/13/1989")); // Still running
+    }
+
+    @Test
+    public void testRescheduleWithAnInvalidSlotOrDate() {
+        String slot = Timeslot.ofSlot(1).toString();
+        assertEquals("11/4/2024 null John Doe 12/13/1989 does not exist." + NL,
+                execute("R,11/4/2024,abc,John,Doe,12/13/1989,2"));
+        assertEquals("null " + slot + " John Doe 12/13/1989 does not exist." + NL,
+                execute("R,abc,1,John,Doe,12/13/1989,2"));
+        assertEquals("15 is not a valid time slot." + NL,
+                execute("R,11/4/2024,1,John,Doe,12/13/1989,15"));
+        assertEquals("11/4/2024 " + slot + " John Doe 12/13/1989 does not exist." + NL,
+                execute("R,11/4/2024,1,John,Doe,12/13/1989,2")); // Still running
+    }
+}
@@ -0,0 +1,139 @@
+package model;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The ClinicServer class accepts terminals over TCP on the loopback address and serves each one with
+ * its own ClinicManager, while every terminal books against one shared SchedulingCore.
+ * A terminal sends the same comma-separated commands as the console, one per line, and receives the
+ * same messages and lists. Q ends the terminal's connection, not the server.
+ *
+ * Each connection runs on a virtual thread when the Java runtime has them (Java 21 and later); they
+ * are looked up by reflection so the server still compiles and runs on Java 17, where each connection
+ * gets a thread from a cached pool instead.
+ *
+ * @author Gursimar Singh
+ */
+public class ClinicServer implements Closeable {
+    private final SchedulingCore core;
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections;
+    private final Set<Socket> openSockets;
+    private Thread acceptThread;
+
+    /**
+     * Opens a server on a loopback port. Terminals are accepted once the server is started.
+     *
+     * @param core The scheduling core every terminal shares.
+     * @param port The port to listen on, or 0 for any free port.
+     * @throws IOException if the port cannot be opened.
+     */
+    public ClinicServer(SchedulingCore core, int port) throws IOException {
+        this.core = core;
+        this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        this.connections = newConnectionExecutor();
+        this.openSockets = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return The local port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts terminals on a background thread until the server is closed.
+     */
+    public synchronized void start() {
+        if (acceptThread == null) {
+            acceptThread = new Thread(this::run, "clinic-server-accept");
+            acceptThread.start();
+        }
+    }
+
+    /**
+     * Accepts terminals on the calling thread until the server is closed.
+     */
+    public void run() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                break; // The server was closed
+            }
+            openSockets.add(socket);
+            connections.execute(() -> serve(socket));
+        }
+    }
+
+    /**
+     * Stops accepting terminals and closes the open connections.
+     *
+     * @throws IOException if the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket socket : openSockets) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // The connection is already gone
+            }
+        }
+        connections.shutdown();
+    }
+
+    /**
+     * Runs the commands of one terminal until it sends Q or disconnects.
+     *
+     * @param socket The terminal's connection.
+     */
+    private void serve(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintStream out = new PrintStream(new BufferedOutputStream(socket.getOutputStream()), false, StandardCharsets.UTF_8)) {
+            new ClinicManager(core, out).serve(in);
+        } catch (SocketException e) {
+            // The terminal disconnected or the server was closed
+        } catch (IOException e) {
+            System.err.println("Error: terminal " + socket.getRemoteSocketAddress() + " failed (" + e.getMessage() + ").");
+        } finally {
+            openSockets.remove(socket);
+        }
+    }
+
+    /**
+     * Creates the executor for the connections: one virtual thread per connection when available,
+     * otherwise a cached pool of platform threads.
+     *
+     * @return The executor.
+     */
+    static ExecutorService newConnectionExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(); // Java 17 has no virtual threads
+        }
+    }
+}
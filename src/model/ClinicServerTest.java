@@ -0,0 +1,146 @@
+package model;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import util.List;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClinicServerTest {
+    private static final int CLIENTS = 50;
+
+    private ClinicServer server;
+    private String date;
+
+    @Before
+    public void startServer() throws Exception {
+        ClinicManager console = new ClinicManager(new PrintStream(OutputStream.nullOutputStream()));
+        server = new ClinicServer(console.getCore(), 0);
+        server.start();
+
+        LocalDate day = LocalDate.now().plusDays(7);
+        while (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            day = day.plusDays(1);
+        }
+        date = day.getMonthValue() + "/" + day.getDayOfMonth() + "/" + day.getYear();
+    }
+
+    @After
+    public void stopServer() throws Exception {
+        server.close();
+    }
+
+    /**
+     * Sends commands as one terminal and returns every line the server answered, up to Q.
+     */
+    private String session(String... commands) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String command : commands) {
+                out.println(command);
+            }
+            out.println("Q");
+            StringBuilder answer = new StringBuilder();
+            String line;
+            while ((line = in.readLine()) != null) {
+                answer.append(line).append('\n');
+            }
+            return answer.toString();
+        }
+    }
+
+    @Test
+    public void testTerminalGetsTheConsoleMessages() throws Exception {
+        String answer = session("X", "D," + date + ",1,John,Doe,12/13/1989");
+        assertTrue(answer.startsWith("Clinic Manager is running..."));
+        assertTrue(answer.contains("Invalid command!\n"));
+        assertTrue(answer.contains("Missing data tokens.\n"));
+        assertTrue(answer.endsWith("Clinic Manager terminated.\n\n"));
+    }
+
+    @Test
+    public void testTerminalsShareOneSchedule() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<String>> answers = new List<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                String booking = "D," + date + ",1,Patient" + i + ",Doe,12/13/1989,01"; // All want the same slot
+                answers.add(clients.submit(() -> session(booking)));
+            }
+            int booked = 0;
+            int unavailable = 0;
+            for (Future<String> answer : answers) {
+                String text = answer.get();
+                booked += text.contains(" booked.") ? 1 : 0;
+                unavailable += text.contains("is not available at slot 1") ? 1 : 0;
+            }
+            assertEquals(1, booked);
+            assertEquals(CLIENTS - 1, unavailable);
+        } finally {
+            clients.shutdown();
+        }
+
+        String listing = session("PA");
+        assertEquals(1, listing.split("\\[ANDREW PATEL", -1).length - 1);
+    }
+
+    @Test
+    public void testStalledTerminalDoesNotHoldUpTheOthers() throws Exception {
+        SchedulingCore core = new ClinicManager(new PrintStream(OutputStream.nullOutputStream())).getCore();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        OutputStream stalled = new OutputStream() { // A client that stops reading
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                writing.countDown();
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        ClinicManager slow = new ClinicManager(core, new PrintStream(stalled));
+        ClinicManager other = new ClinicManager(core, new PrintStream(OutputStream.nullOutputStream()));
+        other.execute("D," + date + ",1,John,Doe,12/13/1989,01");
+
+        ExecutorService terminals = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> listing = terminals.submit(() -> slow.execute("PA"));
+            assertTrue(writing.await(10, TimeUnit.SECONDS));
+            Future<Boolean> booking = terminals.submit(() -> other.execute("D," + date + ",2,Jane,Doe,1/1/1990,01"));
+            booking.get(10, TimeUnit.SECONDS); // Times out while the listing is written under the lock
+            core.read(store -> assertEquals(2, store.size()));
+            unblock.countDown();
+            listing.get(10, TimeUnit.SECONDS);
+        } finally {
+            unblock.countDown();
+            terminals.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package model;
+import util.Date;
+import util.DateParser;
+
+/**
+ * A Command is one line of input after it has been parsed by the CommandParser.
+ * Each kind of command carries its fields already converted to dates, timeslots, names and rooms,
+ * so ClinicManager can run it without looking at the text again.
+ *
+ * Booking commands also carry the outcome of checking their dates, and the original text of any
+ * field that failed, because the error messages print that text as it was typed.
+ *
+ * @author Gursimar Singh
+ */
+public sealed interface Command permits Command.BookOffice, Command.BookImaging, Command.Reschedule,
+        Command.Cancel, Command.Print, Command.Incomplete, Command.Control {
+
+    /**
+     * The fields shared by office (D) and imaging (T) bookings.
+     *
+     * @param date         The appointment date, or null if it is not in MM/DD/YYYY format.
+     * @param dateResult   The outcome of checking the appointment date.
+     * @param dateText     The appointment date as typed, kept only if dateResult is not VALID.
+     * @param timeslot     The timeslot, or null if the slot number is invalid.
+     * @param timeslotText The slot number as typed, kept only if timeslot is null.
+     * @param fname        The patient's first name.
+     * @param lname        The patient's last name.
+     * @param dob          The patient's date of birth, or null if it is not in MM/DD/YYYY format.
+     * @param dobResult    The outcome of checking the date of birth.
+     * @param dobText      The date of birth as typed, kept only if dobResult is not VALID.
+     */
+    record Booking(Date date, DateParser.Result dateResult, String dateText,
+                   Timeslot timeslot, String timeslotText,
+                   String fname, String lname,
+                   Date dob, DateParser.Result dobResult, String dobText) {
+    }
+
+    /**
+     * D: book an office appointment with the doctor that has the given NPI.
+     *
+     * @param booking The appointment and patient fields.
+     * @param npi     The doctor's NPI.
+     */
+    record BookOffice(Booking booking, String npi) implements Command {
+    }
+
+    /**
+     * T: book an imaging appointment in the given room.
+     *
+     * @param booking     The appointment and patient fields.
+     * @param room        The imaging room, or null if the service is not provided.
+     * @param serviceText The imaging service as typed, kept only if room is null.
+     */
+    record BookImaging(Booking booking, Radiology room, String serviceText) implements Command {
+    }
+
+    /**
+     * R: move an office appointment to another timeslot on the same date.
+     *
+     * @param date            The date of the appointment, or null if it is not in MM/DD/YYYY format.
+     * @param oldTimeslot     The current timeslot, or null if the slot number is invalid.
+     * @param patient         The patient's profile.
+     * @param newTimeslot     The new timeslot, or null if the slot number is invalid.
+     * @param newTimeslotText The new slot number as typed, kept only if newTimeslot is null.
+     */
+    record Reschedule(Date date, Timeslot oldTimeslot, Profile patient, Timeslot newTimeslot,
+                      String newTimeslotText) implements Command {
+    }
+
+    /**
+     * C: cancel an office or imaging appointment.
+     *
+     * @param date     The date of the appointment, or null if it is not in MM/DD/YYYY format.
+     * @param timeslot The timeslot, or null if the slot number is invalid.
+     * @param patient  The patient's profile.
+     */
+    record Cancel(Date date, Timeslot timeslot, Profile patient) implements Command {
+    }
+
+    /**
+     * The commands that print a list or a statement.
+     */
+    enum Print implements Command {
+        PO, PI, PA, PP, PL, PS, PC
+    }
+
+    /**
+     * A D, T, R or C command that does not have the right number of fields.
+     */
+    enum Incomplete implements Command {
+        BOOK_OFFICE, BOOK_IMAGING, RESCHEDULE, CANCEL
+    }
+
+    /**
+     * Q, and any command that is not recognized.
+     */
+    enum Control implements Command {
+        QUIT, INVALID
+    }
+}
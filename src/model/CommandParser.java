@@ -0,0 +1,153 @@
+package model;
+import util.Date;
+import util.DateParser;
+import util.LineTokenizer;
+
+/**
+ * The CommandParser class turns a line of input into a Command.
+ * The line is scanned once by a LineTokenizer, and each field is then converted in place:
+ * dates by a DateParser, slot numbers and imaging services without creating substrings.
+ * Only names, the NPI, and the text of invalid fields (for error messages) become strings.
+ *
+ * The parser reuses its tokenizer and date parser for every line, so each ClinicManager
+ * uses its own parser.
+ *
+ * @author Gursimar Singh
+ */
+public class CommandParser {
+    private static final int BOOKING_FIELDS = 7;
+    private static final int RESCHEDULE_FIELDS = 7;
+    private static final int CANCEL_FIELDS = 6;
+    private static final Command.Print[] PRINT_COMMANDS = Command.Print.values();
+    private static final Radiology[] ROOMS = Radiology.values();
+
+    private final LineTokenizer tokenizer;
+    private final DateParser dateParser;
+
+    /**
+     * Creates a parser.
+     */
+    public CommandParser() {
+        tokenizer = new LineTokenizer();
+        dateParser = new DateParser();
+    }
+
+    /**
+     * Parses a line of input. The command name is the first field without surrounding spaces.
+     *
+     * @param line The line, already trimmed and not empty.
+     * @return The command the line holds.
+     */
+    public Command parse(String line) {
+        int count = tokenizer.tokenize(line);
+        if (count == 0) {
+            return Command.Control.INVALID; // The line only held commas
+        }
+
+        if (tokenizer.trimmedEquals(0, "D")) {
+            return isBooking(count, "D") ? new Command.BookOffice(booking(), tokenizer.trimmed(6))
+                    : Command.Incomplete.BOOK_OFFICE;
+        }
+        if (tokenizer.trimmedEquals(0, "T")) {
+            return isBooking(count, "T") ? bookImaging() : Command.Incomplete.BOOK_IMAGING;
+        }
+        if (tokenizer.trimmedEquals(0, "R")) {
+            return count == RESCHEDULE_FIELDS ? reschedule() : Command.Incomplete.RESCHEDULE;
+        }
+        if (tokenizer.trimmedEquals(0, "C")) {
+            return count == CANCEL_FIELDS ? cancel() : Command.Incomplete.CANCEL;
+        }
+        if (tokenizer.trimmedEquals(0, "Q")) {
+            return Command.Control.QUIT;
+        }
+        for (Command.Print print : PRINT_COMMANDS) {
+            if (tokenizer.trimmedEquals(0, print.name())) {
+                return print;
+            }
+        }
+        return Command.Control.INVALID;
+    }
+
+    /**
+     * Checks the field count of a booking, and that the command name has no spaces around it.
+     */
+    private boolean isBooking(int count, String name) {
+        return count == BOOKING_FIELDS && tokenizer.equalsIgnoreCase(0, name);
+    }
+
+    /**
+     * Reads the date, timeslot and patient fields shared by D and T.
+     */
+    private Command.Booking booking() {
+        DateParser.Result dateResult = dateParser.parseAppointmentDate(tokenizer.getLine(), tokenizer.start(1), tokenizer.end(1));
+        Date date = dateParser.getDate();
+        String dateText = dateResult == DateParser.Result.VALID ? null : tokenizer.text(1);
+
+        Timeslot timeslot = timeslot(2);
+        String timeslotText = timeslot == null ? tokenizer.text(2) : null;
+
+        DateParser.Result dobResult = dateParser.parseBirthDate(tokenizer.getLine(), tokenizer.start(5), tokenizer.end(5));
+        Date dob = dateParser.getDate();
+        String dobText = dobResult == DateParser.Result.VALID ? null : tokenizer.text(5);
+
+        return new Command.Booking(date, dateResult, dateText, timeslot, timeslotText,
+                tokenizer.trimmed(3), tokenizer.trimmed(4), dob, dobResult, dobText);
+    }
+
+    private Command.BookImaging bookImaging() {
+        Command.Booking booking = booking();
+        Radiology room = room(6);
+        return new Command.BookImaging(booking, room, room == null ? tokenizer.text(6) : null);
+    }
+
+    private Command.Reschedule reschedule() {
+        Date date = date(1);
+        Timeslot oldTimeslot = timeslot(2);
+        Profile patient = new Profile(tokenizer.trimmed(3), tokenizer.trimmed(4), date(5));
+        Timeslot newTimeslot = timeslot(6);
+        return new Command.Reschedule(date, oldTimeslot, patient, newTimeslot, newTimeslot == null ? tokenizer.text(6) : null);
+    }
+
+    private Command.Cancel cancel() {
+        Date date = date(1);
+        Timeslot timeslot = timeslot(2);
+        Profile patient = new Profile(tokenizer.trimmed(3), tokenizer.trimmed(4), date(5));
+        return new Command.Cancel(date, timeslot, patient);
+    }
+
+    /**
+     * Reads a date field without checking it against the calendar.
+     *
+     * @return The date, or null if the field is not in MM/DD/YYYY format.
+     */
+    private Date date(int field) {
+        return dateParser.parse(tokenizer.getLine(), tokenizer.start(field), tokenizer.end(field));
+    }
+
+    /**
+     * Reads a slot number field.
+     *
+     * @return The timeslot, or null if the field is not a number from 1 to 12.
+     */
+    private Timeslot timeslot(int field) {
+        int slot = tokenizer.number(field);
+        if (slot >= 1 && slot <= Timeslot.SLOTS.length) {
+            return Timeslot.ofSlot(slot);
+        }
+        return null;
+    }
+
+    /**
+     * Reads an imaging service field, ignoring case.
+     *
+     * @return The imaging room, or null if the service is not provided.
+     */
+    private Radiology room(int field) {
+        for (Radiology room : ROOMS) {
+            if (tokenizer.trimmedEqualsIgnoreCase(field, room.name())) {
+                return room;
+            }
+        }
+        return null;
+    }
+}
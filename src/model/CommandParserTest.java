@@ -0,0 +1,80 @@
+package model;
+
+import org.junit.Test;
+import util.Date;
+import util.DateParser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CommandParserTest {
+
+    @Test
+    public void testBookOffice() {
+        CommandParser parser = new CommandParser();
+        Command command = parser.parse("D,1/2/2020,3, John ,Doe,1/1/1990, 120679 ");
+        assertTrue(command instanceof Command.BookOffice);
+        Command.BookOffice bookOffice = (Command.BookOffice) command;
+        Command.Booking booking = bookOffice.booking();
+        assertEquals(DateParser.Result.TODAY_OR_BEFORE, booking.dateResult());
+        assertEquals("1/2/2020", booking.dateText());
+        assertSame(Timeslot.SLOTS[2], booking.timeslot());
+        assertEquals("John", booking.fname());
+        assertEquals(new Date(1, 1, 1990), booking.dob());
+        assertEquals(DateParser.Result.VALID, booking.dobResult());
+        assertEquals("120679", bookOffice.npi());
+    }
+
+    @Test
+    public void testBookImagingRoom() {
+        CommandParser parser = new CommandParser();
+        Command.BookImaging valid = (Command.BookImaging) parser.parse("T,1/2/2020,13,Jane,Roe,1/1/1990, xray");
+        assertSame(Radiology.XRAY, valid.room());
+        assertNull(valid.booking().timeslot());
+        assertEquals("13", valid.booking().timeslotText());
+
+        Command.BookImaging invalid = (Command.BookImaging) parser.parse("T,1/2/2020,1,Jane,Roe,1/1/1990,mri");
+        assertNull(invalid.room());
+        assertEquals("mri", invalid.serviceText());
+    }
+
+    @Test
+    public void testFieldCounts() {
+        CommandParser parser = new CommandParser();
+        assertSame(Command.Incomplete.BOOK_OFFICE, parser.parse("D,1/2/2020,3,John,Doe,1/1/1990"));
+        assertSame(Command.Incomplete.BOOK_OFFICE, parser.parse("D ,1/2/2020,3,John,Doe,1/1/1990,120679"));
+        assertSame(Command.Incomplete.CANCEL, parser.parse("C,1/2/2020,3,John,Doe"));
+        assertTrue(parser.parse("C,1/2/2020,3,John,Doe,1/1/1990,,") instanceof Command.Cancel);
+    }
+
+    @Test
+    public void testInvalidFieldsOfCancelAndReschedule() {
+        CommandParser parser = new CommandParser();
+        Command.Cancel badSlot = (Command.Cancel) parser.parse("C,1/2/2020,13,John,Doe,1/1/1990");
+        assertEquals(new Date(1, 2, 2020), badSlot.date());
+        assertNull(badSlot.timeslot());
+        Command.Cancel badDate = (Command.Cancel) parser.parse("C,abc,1,John,Doe,1/1/1990");
+        assertNull(badDate.date());
+        assertSame(Timeslot.SLOTS[0], badDate.timeslot());
+
+        Command.Reschedule badOldSlot = (Command.Reschedule) parser.parse("R,1/2/2020,abc,John,Doe,1/1/1990,2");
+        assertNull(badOldSlot.oldTimeslot());
+        assertSame(Timeslot.SLOTS[1], badOldSlot.newTimeslot());
+        assertNull(badOldSlot.newTimeslotText());
+        Command.Reschedule badNewSlot = (Command.Reschedule) parser.parse("R,1/2/2020,1,John,Doe,1/1/1990,15");
+        assertNull(badNewSlot.newTimeslot());
+        assertEquals("15", badNewSlot.newTimeslotText());
+        assertNull(((Command.Reschedule) parser.parse("R,1/32/20x0,1,John,Doe,1/1/1990,2")).date());
+    }
+
+    @Test
+    public void testOtherCommands() {
+        CommandParser parser = new CommandParser();
+        assertSame(Command.Print.PA, parser.parse("PA,extra"));
+        assertSame(Command.Control.QUIT, parser.parse("Q"));
+        assertSame(Command.Control.INVALID, parser.parse("d,1/2/2020,3,John,Doe,1/1/1990,120679"));
+        assertSame(Command.Control.INVALID, parser.parse(",,"));
+    }
+}
@@ -0,0 +1,34 @@
+package model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The tool that compiles a provider file into a binary catalog for ClinicManager.
+ *
+ * The providers are read from the text file given as the first argument exactly as ClinicManager
+ * reads providers.txt, and written to the catalog file given as the second argument. Run it again
+ * whenever the text changes; until then ClinicManager ignores the outdated catalog.
+ *
+ * Usage: java model.CompileCatalog providers.txt catalogFile
+ *
+ * @author Gursimar Singh
+ */
+public class CompileCatalog {
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: java model.CompileCatalog providers.txt catalogFile");
+            System.exit(2);
+        }
+        try {
+            byte[] text = Files.readAllBytes(Path.of(args[0]));
+            ProviderCatalog catalog = new ProviderCatalog(new ProviderParser(System.out).parse(text), text);
+            CatalogFile.write(text, catalog, Path.of(args[1]));
+            System.out.println(catalog.size() + " providers compiled into " + args[1] + ".");
+        } catch (IOException e) {
+            System.err.println("Error: cannot compile " + args[0] + " into " + args[1] + " (" + e.getMessage() + ").");
+            System.exit(1);
+        }
+    }
+}
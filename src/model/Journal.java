@@ -0,0 +1,503 @@
+package model;
+import util.Date;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * The Journal class is a binary write-ahead log of every change made to a SchedulingCore:
+ * bookings (D, T), reschedules (R), cancels (C), and the clearing done by the billing statement (PS).
+ * A change is appended to an in-memory buffer while the core still holds its locks, so the order of
+ * the records is the order in which the changes took effect. The command then waits in sync() until
+ * its record is on disk before it answers.
+ *
+ * Waiting commands share their disk writes (group commit): the first one to wait writes every
+ * record appended so far and forces the file once, while the commands that arrive in the meantime
+ * append to a second buffer and wait for the next write, which covers all of them at once.
+ *
+ * File format: a header (MAGIC, VERSION, number of providers in the catalog, checksum of the provider list,
+ * generation), then one record per change: [int length][body][int CRC-32 of body]. A body starts with the
+ * record type, and a booking records the provider id and, for imaging, the technician rotation index
+ * after the booking, so a replay restores the same assignments without running the scheduler again. A reschedule or a cancel
+ * records the whole appointment it changed, provider id included, so a replay changes that very
+ * appointment even when several patients share their names. A record cut short
+ * by a crash fails its length or checksum; replay stops there and the file is truncated to the
+ * last whole record. A record longer than any change that still fits in the file was not cut short:
+ * the file is refused rather than truncated, so no acknowledged change after it is dropped. Names are
+ * limited to MAX_NAME_LENGTH chars, so every record fits within MAX_RECORD bytes.
+ *
+ * The generation counts the Snapshots taken so far. A snapshot records the generation of the journal
+ * that continues it, and the journal is then emptied and given that generation (reset()), so at startup
+ * a journal of an older generation than the snapshot only holds changes the snapshot already has.
+ *
+ * @author Gursimar Singh
+ */
+public class Journal implements Closeable {
+    private static final int MAGIC = 0x434C4E4A; // "CLNJ"
+    private static final int VERSION = 4;
+    private static final int HEADER_SIZE = 20;
+    static final int MAX_NAME_BYTES = Short.MAX_VALUE; // A name is stored as [short length][UTF-8 bytes]
+    static final int MAX_NAME_LENGTH = MAX_NAME_BYTES / 3; // UTF-8 takes at most 3 bytes per char
+    // The largest body, an imaging booking: type, date, timeslot, two names, date of birth,
+    // provider, room and rotation index
+    private static final int MAX_RECORD = 1 + 4 + 1 + 2 * (2 + MAX_NAME_BYTES) + 4 + 2 + 1 + 4;
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+
+    private static final byte OFFICE = 1;
+    private static final byte IMAGING = 2;
+    private static final byte RESCHEDULE = 3;
+    private static final byte CANCEL = 4;
+    private static final byte CLEAR = 5;
+
+    private final FileChannel channel;
+    private final ProviderCatalog catalog;
+    private final ReentrantLock lock;
+    private final Condition written;
+    private final CRC32 crc;
+    private ByteBuffer pending;   // records appended since the last write
+    private ByteBuffer spare;     // the buffer of the write in progress, reused afterwards
+    private long appended;        // number of records appended
+    private long durable;         // number of records on disk
+    private long records;         // number of records in the file, appended or not
+    private boolean writing;      // a command is writing and forcing the file
+    private IOException failure;  // the error of the last failed write, if any
+
+    private Journal(FileChannel channel, ProviderCatalog catalog, long records) {
+        this.channel = channel;
+        this.catalog = catalog;
+        this.records = records;
+        this.lock = new ReentrantLock();
+        this.written = lock.newCondition();
+        this.crc = new CRC32();
+        this.pending = ByteBuffer.allocate(1 << 16);
+        this.spare = ByteBuffer.allocate(1 << 16);
+    }
+
+    /**
+     * Opens a journal, replaying the records it already holds into a core.
+     * The file is created if it does not exist, and emptied if it is older than the snapshot.
+     *
+     * @param file       The journal file.
+     * @param core       The core the records are replayed into, holding the snapshot if there is one;
+     *                   nothing else may use it meanwhile.
+     * @param generation The generation of the snapshot loaded into the core, 0 without a snapshot.
+     * @return The journal, positioned to append after the last whole record.
+     * @throws IOException if the file cannot be read or written, or was written for another catalog
+     *                     or after a snapshot that is missing.
+     */
+    static Journal open(Path file, SchedulingCore core, int generation) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ProviderCatalog catalog = core.getCatalog();
+            int journalGeneration = channel.size() < HEADER_SIZE ? -1 : readHeader(channel, catalog);
+            if (journalGeneration > generation) {
+                throw new IOException("the journal continues a snapshot that is missing");
+            }
+            long[] records = new long[1];
+            long end;
+            if (journalGeneration < generation) {
+                writeHeader(channel, catalog, generation); // New, or already in the snapshot
+                end = HEADER_SIZE;
+            } else {
+                end = replay(channel, core, records);
+                channel.truncate(end); // Drop a record cut short by a crash
+            }
+            channel.position(end);
+            return new Journal(channel, catalog, records[0]);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of records in the journal: those replayed and those appended since.
+     *
+     * @return The number of records since the journal was created or last reset.
+     */
+    long records() {
+        lock.lock();
+        try {
+            return records;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes every appended record, then empties the journal and gives it a new generation,
+     * once a snapshot holds every change. Nothing may be appended meanwhile.
+     *
+     * @param generation The generation recorded in the snapshot.
+     * @throws IOException if the journal cannot be written.
+     */
+    void reset(int generation) throws IOException {
+        sync();
+        lock.lock();
+        try {
+            writeHeader(channel, catalog, generation);
+            channel.position(HEADER_SIZE);
+            records = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a booking.
+     *
+     * @param appointment   The booked appointment.
+     * @param rotationIndex The technician rotation index after an imaging booking (ignored for office visits).
+     */
+    void appendBooking(Appointment appointment, int rotationIndex) {
+        short provider = (short) catalog.idOf((Provider) appointment.getProvider()); // Checked before the record begins
+        lock.lock();
+        try {
+            int start = begin(appointment instanceof Imaging ? IMAGING : OFFICE);
+            putKey(appointment.getDate(), appointment.getTimeslot(), appointment.getPatient().getProfile());
+            pending.putShort(provider);
+            if (appointment instanceof Imaging imaging) {
+                pending.put((byte) imaging.getRoom().ordinal());
+                pending.putInt(rotationIndex);
+            }
+            end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a reschedule.
+     *
+     * @param appointment The appointment before it was moved.
+     * @param newTimeslot The timeslot it was moved to.
+     */
+    void appendReschedule(Appointment appointment, Timeslot newTimeslot) {
+        short provider = (short) catalog.idOf((Provider) appointment.getProvider()); // Checked before the record begins
+        lock.lock();
+        try {
+            int start = begin(RESCHEDULE);
+            putKey(appointment.getDate(), appointment.getTimeslot(), appointment.getPatient().getProfile());
+            pending.putShort(provider);
+            pending.put((byte) newTimeslot.getOrdinal());
+            end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a cancel.
+     *
+     * @param appointment The canceled appointment.
+     */
+    void appendCancel(Appointment appointment) {
+        short provider = (short) catalog.idOf((Provider) appointment.getProvider()); // Checked before the record begins
+        lock.lock();
+        try {
+            int start = begin(CANCEL);
+            putKey(appointment.getDate(), appointment.getTimeslot(), appointment.getPatient().getProfile());
+            pending.putShort(provider);
+            end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the clearing of every appointment and patient.
+     */
+    void appendClear() {
+        lock.lock();
+        try {
+            end(begin(CLEAR));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every record appended so far is on disk, writing them if no other command is.
+     *
+     * @throws IOException if the records cannot be written.
+     */
+    void sync() throws IOException {
+        lock.lock();
+        try {
+            long target = appended;
+            while (durable < target) {
+                if (failure != null) {
+                    throw failure;
+                }
+                if (writing) {
+                    written.awaitUninterruptibly(); // Another command is writing; its write may cover ours
+                    continue;
+                }
+                writing = true;
+                ByteBuffer batch = pending;
+                long batchEnd = appended;
+                pending = spare;
+                IOException error = null;
+                lock.unlock();
+                try {
+                    batch.flip();
+                    while (batch.hasRemaining()) {
+                        channel.write(batch);
+                    }
+                    channel.force(false);
+                } catch (IOException e) {
+                    error = e;
+                } finally {
+                    lock.lock();
+                }
+                batch.clear();
+                spare = batch;
+                writing = false;
+                if (error == null) {
+                    durable = batchEnd;
+                } else {
+                    failure = error;
+                }
+                written.signalAll();
+            }
+            if (failure != null && durable < target) {
+                throw failure;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the remaining records and closes the file.
+     *
+     * @throws IOException if the records cannot be written or the file closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private int begin(byte type) {
+        if (pending.remaining() < 4 + MAX_RECORD + 4) { // Room for the largest record, framed
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + 4 + MAX_RECORD + 4));
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+        int start = pending.position();
+        pending.putInt(0); // The length, filled in by end()
+        pending.put(type);
+        return start;
+    }
+
+    private void end(int start) {
+        int bodyStart = start + 4;
+        int length = pending.position() - bodyStart;
+        pending.putInt(start, length);
+        crc.reset();
+        crc.update(pending.array(), bodyStart, length);
+        pending.putInt((int) crc.getValue());
+        appended++;
+        records++;
+    }
+
+    private void putKey(Date date, Timeslot timeslot, Profile profile) {
+        pending.putInt(packDate(date));
+        pending.put((byte) timeslot.getOrdinal());
+        putProfile(pending, profile);
+    }
+
+    /**
+     * Empties the file and writes a header, forcing it to disk. The file is emptied first, so a crash
+     * in between leaves an empty file rather than old records under a new generation.
+     */
+    private static void writeHeader(FileChannel channel, ProviderCatalog catalog, int generation) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION)
+                .putInt(catalog.size()).putInt(catalog.getChecksum()).putInt(generation);
+        header.flip();
+        channel.truncate(0);
+        channel.force(true);
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+    }
+
+    /**
+     * Reads and checks the header of a journal file.
+     *
+     * @return The generation of the journal.
+     */
+    private static int readHeader(FileChannel channel, ProviderCatalog catalog) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // Read until the header is full
+        }
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IOException("not a journal file");
+        }
+        if (header.getInt() != catalog.size() || header.getInt() != catalog.getChecksum()) {
+            throw new IOException("the journal was written for another provider list");
+        }
+        return header.getInt();
+    }
+
+    /**
+     * Replays the records of a journal file into a core, after the header.
+     *
+     * @param records Receives the number of records replayed.
+     * @return The position after the last whole record.
+     */
+    private static long replay(FileChannel channel, SchedulingCore core, long[] records) throws IOException {
+        channel.position(HEADER_SIZE);
+        InputStream stream = Channels.newInputStream(channel); // Not closed: that would close the channel
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream, READ_BUFFER_SIZE));
+
+        long size = channel.size();
+        long position = HEADER_SIZE;
+        byte[] body = new byte[MAX_RECORD];
+        CRC32 checksum = new CRC32();
+        while (true) {
+            int length;
+            try {
+                length = in.readInt();
+                if (length > MAX_RECORD && position + 4 + length + 4 <= size) {
+                    // No change is this long, and the file holds all of it: not a write cut short
+                    throw new IOException("the journal is damaged at offset " + position);
+                }
+                if (length <= 0 || length > MAX_RECORD) {
+                    return position; // A torn record
+                }
+                in.readFully(body, 0, length);
+                checksum.reset();
+                checksum.update(body, 0, length);
+                if (in.readInt() != (int) checksum.getValue()) {
+                    return position;
+                }
+            } catch (EOFException e) {
+                return position;
+            }
+            apply(ByteBuffer.wrap(body, 0, length), core);
+            position += 4 + length + 4;
+            records[0]++;
+        }
+    }
+
+    private static void apply(ByteBuffer body, SchedulingCore core) throws IOException {
+        byte type = body.get();
+        if (type == CLEAR) {
+            core.restoreClear();
+            return;
+        }
+        Date date = unpackDate(body.getInt());
+        Timeslot timeslot = timeslot(body.get());
+        Profile profile = getProfile(body);
+        switch (type) {
+            case OFFICE -> {
+                if (!(provider(core, body.getShort()) instanceof Doctor doctor)) {
+                    throw new IOException("an office visit in the journal is not with a doctor");
+                }
+                core.restoreOffice(date, timeslot, profile, doctor);
+            }
+            case IMAGING -> {
+                if (!(provider(core, body.getShort()) instanceof Technician technician)) {
+                    throw new IOException("an imaging appointment in the journal is not with a technician");
+                }
+                Radiology room = room(body.get());
+                core.restoreImaging(date, timeslot, profile, technician, room, body.getInt());
+            }
+            case RESCHEDULE -> {
+                Provider provider = provider(core, body.getShort());
+                core.restoreReschedule(date, timeslot, profile, provider, timeslot(body.get()));
+            }
+            case CANCEL -> core.restoreCancel(date, timeslot, profile, provider(core, body.getShort()));
+            default -> throw new IOException("unknown journal record " + type);
+        }
+    }
+
+    /*
+     * The encodings below are shared with Snapshot.
+     */
+
+    static Provider provider(SchedulingCore core, int id) throws IOException {
+        if (id < 0 || id >= core.getCatalog().size()) {
+            throw new IOException("unknown provider " + id);
+        }
+        return core.getCatalog().get(id);
+    }
+
+    static Timeslot timeslot(byte ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= Timeslot.SLOTS.length) {
+            throw new IOException("unknown timeslot " + ordinal);
+        }
+        return Timeslot.SLOTS[ordinal];
+    }
+
+    static Radiology room(byte ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= Radiology.values().length) {
+            throw new IOException("unknown imaging room " + ordinal);
+        }
+        return Radiology.values()[ordinal];
+    }
+
+    /**
+     * Writes a profile: each name as [short length][UTF-8 bytes], then the packed date of birth.
+     */
+    static void putProfile(ByteBuffer out, Profile profile) {
+        putString(out, profile.getFname());
+        putString(out, profile.getLname());
+        out.putInt(packDate(profile.getDob()));
+    }
+
+    static Profile getProfile(ByteBuffer in) {
+        return new Profile(getString(in), getString(in), unpackDate(in.getInt()));
+    }
+
+    private static void putString(ByteBuffer out, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("a name of " + bytes.length + " bytes cannot be stored");
+        }
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getShort();
+        if (!in.hasArray()) {
+            byte[] bytes = new byte[length]; // A mapped file
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        String text = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return text;
+    }
+
+    static int packDate(Date date) {
+        return (date.getYear() << 9) | (date.getMonth() << 5) | date.getDay();
+    }
+
+    static Date unpackDate(int packed) {
+        return new Date((packed >>> 5) & 0xF, packed & 0x1F, packed >>> 9);
+    }
+}
@@ -0,0 +1,241 @@
+package model;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import util.CircleList;
+import util.Date;
+import util.List;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class JournalTest {
+    private final Date date = new Date(11, 4, 2024);
+    private final Profile john = new Profile("John", "Doe", new Date(12, 13, 1989));
+    private final Profile jane = new Profile("Jane", "Roe", new Date(1, 1, 1990));
+    private Path directory;
+    private Path file;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("journal");
+        file = directory.resolve("clinic.journal");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    private static SchedulingCore core() {
+        return core("01");
+    }
+
+    private static SchedulingCore core(String firstNpi) {
+        List<Provider> providers = new List<>();
+        providers.add(new Doctor(new Profile("ANDREW", "PATEL", new Date(1, 21, 1989)),
+                Location.BRIDGEWATER, Specialty.FAMILY, firstNpi));
+        providers.add(new Doctor(new Profile("RACHAEL", "LIM", new Date(7, 9, 1987)),
+                Location.EDISON, Specialty.PEDIATRICIAN, "23"));
+        providers.add(new Technician(new Profile("JENNY", "PATEL", new Date(8, 9, 1991)), Location.CLARK, 125));
+        providers.add(new Technician(new Profile("MONICA", "FOX", new Date(3, 15, 1995)), Location.EDISON, 130));
+        ProviderCatalog catalog = new ProviderCatalog(providers);
+        CircleList<Technician> rotation = new CircleList<>();
+        rotation.addAll(catalog.getTechnicians());
+        return new SchedulingCore(catalog, rotation);
+    }
+
+    private static String listing(SchedulingCore core) {
+        StringBuilder text = new StringBuilder();
+        core.read(store -> {
+            for (Appointment appointment : store) {
+                text.append(appointment).append('\n');
+            }
+            for (Patient patient : store.getLedger().patients()) {
+                text.append(patient.getProfile()).append(' ').append(store.getLedger().getBalance(patient)).append('\n');
+            }
+        });
+        return text.toString();
+    }
+
+    @Test
+    public void testReplayRebuildsTheSchedule() throws IOException {
+        SchedulingCore core = core();
+        assertEquals(0, core.openJournal(file));
+        Doctor patel = (Doctor) core.getCatalog().get(0);
+        core.bookOffice(date, Timeslot.ofSlot(1), john, patel);
+        core.bookOffice(date, Timeslot.ofSlot(2), jane, patel);
+        core.bookImaging(date, Timeslot.ofSlot(3), john, Radiology.XRAY);
+        core.bookImaging(date, Timeslot.ofSlot(3), jane, Radiology.XRAY);
+        core.reschedule(date, Timeslot.ofSlot(1), new Profile("JOHN", "DOE", john.getDob()), Timeslot.ofSlot(4));
+        core.cancel(date, Timeslot.ofSlot(2), jane);
+        core.bookOffice(date, Timeslot.ofSlot(1), jane, patel); // Takes the slot freed by the reschedule
+        core.closeJournal();
+
+        SchedulingCore replayed = core();
+        assertEquals(4, replayed.openJournal(file));
+        assertEquals(listing(core), listing(replayed));
+
+        // The rotation continues where it was: the next X-ray goes to the technician after the last one
+        Profile bob = new Profile("Bob", "Lee", new Date(5, 5, 1985));
+        Appointment expected = core.bookImaging(date, Timeslot.ofSlot(5), bob, Radiology.XRAY).appointment();
+        Appointment actual = replayed.bookImaging(date, Timeslot.ofSlot(5), bob, Radiology.XRAY).appointment();
+        assertEquals(expected.getProvider(), actual.getProvider());
+        replayed.closeJournal();
+    }
+
+    @Test
+    public void testClearIsReplayed() throws IOException {
+        SchedulingCore core = core();
+        core.openJournal(file);
+        core.bookOffice(date, Timeslot.ofSlot(1), john, (Doctor) core.getCatalog().get(0));
+        core.readAndClear(store -> { });
+        core.bookOffice(date, Timeslot.ofSlot(2), jane, (Doctor) core.getCatalog().get(0));
+        core.closeJournal();
+
+        SchedulingCore replayed = core();
+        assertEquals(1, replayed.openJournal(file));
+        assertEquals(listing(core), listing(replayed));
+        replayed.closeJournal();
+    }
+
+    @Test
+    public void testTornRecordIsDropped() throws IOException {
+        SchedulingCore core = core();
+        core.openJournal(file);
+        core.bookOffice(date, Timeslot.ofSlot(1), john, (Doctor) core.getCatalog().get(0));
+        core.bookOffice(date, Timeslot.ofSlot(2), jane, (Doctor) core.getCatalog().get(0));
+        core.closeJournal();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3); // A crash in the middle of the last record
+        }
+
+        SchedulingCore replayed = core();
+        assertEquals(1, replayed.openJournal(file));
+        replayed.bookOffice(date, Timeslot.ofSlot(3), jane, (Doctor) replayed.getCatalog().get(1));
+        replayed.closeJournal();
+
+        SchedulingCore again = core();
+        assertEquals(2, again.openJournal(file)); // The record after the dropped one is whole
+        again.closeJournal();
+    }
+
+    @Test
+    public void testLongestNamesAreJournaled() throws IOException {
+        String name = "\u20AC".repeat(Journal.MAX_NAME_LENGTH); // 3 bytes per char in UTF-8
+        Profile longest = new Profile(name, name, new Date(5, 5, 1985));
+        SchedulingCore core = core();
+        core.openJournal(file);
+        core.bookImaging(date, Timeslot.ofSlot(1), longest, Radiology.XRAY);
+        core.bookOffice(date, Timeslot.ofSlot(2), longest, (Doctor) core.getCatalog().get(0));
+        core.closeJournal();
+
+        SchedulingCore replayed = core();
+        assertEquals(2, replayed.openJournal(file));
+        assertEquals(listing(core), listing(replayed));
+        replayed.closeJournal();
+    }
+
+    @Test
+    public void testTooLongNamesAreRefusedBeforeBooking() throws IOException {
+        SchedulingCore core = core();
+        core.openJournal(file);
+        Profile tooLong = new Profile("J".repeat(Journal.MAX_NAME_LENGTH + 1), "Doe", new Date(5, 5, 1985));
+        try {
+            core.bookOffice(date, Timeslot.ofSlot(1), tooLong, (Doctor) core.getCatalog().get(0));
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // Nothing was booked
+        }
+        core.read(store -> assertTrue(store.isEmpty()));
+        core.closeJournal();
+    }
+
+    @Test(expected = IOException.class)
+    public void testOverlongRecordBeforeTheEndIsRefused() throws IOException {
+        SchedulingCore core = core();
+        core.openJournal(file);
+        String name = "a".repeat(Journal.MAX_NAME_LENGTH);
+        for (int slot = 1; slot <= 4; slot++) { // Enough bytes after the first record to hold any record
+            core.bookOffice(date, Timeslot.ofSlot(slot), new Profile(name, name, john.getDob()), (Doctor) core.getCatalog().get(0));
+        }
+        core.closeJournal();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 70000), 20); // The length of the first record, after the header
+        }
+        core().openJournal(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testOtherFilesAreRefused() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap("not a journal at all".getBytes()));
+        }
+        core().openJournal(file);
+    }
+
+    @Test
+    public void testAnotherProviderListOfTheSameSizeIsRefused() throws IOException {
+        SchedulingCore core = core();
+        core.openJournal(file);
+        core.bookOffice(date, Timeslot.ofSlot(1), john, (Doctor) core.getCatalog().get(0));
+        core.closeJournal();
+
+        try {
+            core("02").openJournal(file); // Same count, but the first doctor has another NPI
+            fail("a journal of another provider list was replayed");
+        } catch (IOException e) {
+            assertEquals("the journal was written for another provider list", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testConcurrentCommandsShareWrites() throws Exception {
+        SchedulingCore core = core();
+        core.openJournal(file);
+        AtomicInteger patients = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new List<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        int n = patients.incrementAndGet();
+                        Profile profile = new Profile("P" + n, "Doe", new Date(1, 1, 1990));
+                        Date day = new Date(11, 1 + n % 28, 2024);
+                        core.bookOffice(day, Timeslot.ofSlot(1 + n % 12), profile, (Doctor) core.getCatalog().get(n % 2));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        core.closeJournal();
+
+        SchedulingCore replayed = core();
+        int[] size = new int[1];
+        core.read(store -> size[0] = store.size());
+        assertTrue(size[0] > 0);
+        assertEquals(size[0], replayed.openJournal(file));
+        assertEquals(listing(core), listing(replayed));
+        replayed.closeJournal();
+    }
+}
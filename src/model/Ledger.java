@@ -0,0 +1,210 @@
+package model;
+import util.List;
+import util.SortedList;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The Ledger class keeps running totals of the appointments in an AppointmentStore:
+ * - the balance due and the number of appointments of each patient, by patient id,
+ * - the credit and the number of appointments of each provider, by provider id.
+ * The store updates the ledger every time it adds or removes an appointment, so the totals always
+ * match the appointments in the store, and reading what a patient owes or what a provider has
+ * earned is an array lookup. Each appointment is charged at the rate of its provider.
+ *
+ * The patients with appointments are also kept sorted by profile, so the billing statement (PS)
+ * is read straight from the ledger. The credit report (PC) walks the catalog's providers, which
+ * are already sorted by last name, then first name, and skips the providers without appointments.
+ * Providers with the same name (such as the Doctor and the Technician named GARY JOHNSON) keep
+ * separate totals and are listed in the order of the catalog.
+ *
+ * Patients must have an id from a PatientRegistry before their appointments are added.
+ *
+ * @author Gursimar Singh
+ */
+public class Ledger {
+    private static final Comparator<Patient> BY_PROFILE = Patient::compareTo;
+
+    private final List<Provider> sortedProviders;
+    private final int[] creditById;       // total credit of each provider, by provider id
+    private final int[] providerCountById; // number of appointments of each provider, by provider id
+    private int[] balanceById;            // balance due of each patient, by patient id
+    private int[] patientCountById;       // number of appointments of each patient, by patient id
+    private final SortedList<Patient> patients; // the patients with appointments, by profile
+
+    /**
+     * Creates an empty ledger for the providers of a catalog.
+     *
+     * @param catalog The catalog that assigned the providers' ids.
+     */
+    public Ledger(ProviderCatalog catalog) {
+        this.sortedProviders = catalog.getSortedProviders();
+        this.creditById = new int[catalog.size()];
+        this.providerCountById = new int[catalog.size()];
+        this.balanceById = new int[0];
+        this.patientCountById = new int[0];
+        this.patients = new SortedList<>(BY_PROFILE);
+    }
+
+    /**
+     * Records a new appointment: the patient owes the provider's rate and the provider is credited with it.
+     *
+     * @param appointment The appointment added to the store.
+     */
+    void add(Appointment appointment) {
+        Provider provider = (Provider) appointment.getProvider();
+        Patient patient = (Patient) appointment.getPatient();
+        int rate = provider.rate();
+
+        creditById[provider.getId()] += rate;
+        providerCountById[provider.getId()]++;
+
+        int id = patient.getId();
+        if (id >= balanceById.length) {
+            grow(id + 1);
+        }
+        balanceById[id] += rate;
+        if (patientCountById[id]++ == 0) {
+            patients.add(patient);
+        }
+    }
+
+    /**
+     * Takes back an appointment that was removed from the store.
+     *
+     * @param appointment The appointment removed from the store.
+     */
+    void remove(Appointment appointment) {
+        Provider provider = (Provider) appointment.getProvider();
+        Patient patient = (Patient) appointment.getPatient();
+        int rate = provider.rate();
+
+        creditById[provider.getId()] -= rate;
+        providerCountById[provider.getId()]--;
+
+        int id = patient.getId();
+        balanceById[id] -= rate;
+        if (--patientCountById[id] == 0) {
+            patients.remove(patient);
+        }
+    }
+
+    /**
+     * Resets every total to zero.
+     */
+    void clear() {
+        for (Patient patient : patients) { // Only patients with appointments have non-zero totals
+            balanceById[patient.getId()] = 0;
+            patientCountById[patient.getId()] = 0;
+        }
+        patients.clear();
+        for (int id = 0; id < creditById.length; id++) {
+            creditById[id] = 0;
+            providerCountById[id] = 0;
+        }
+    }
+
+    /**
+     * Returns what a patient owes for their appointments.
+     *
+     * @param patient The patient.
+     * @return The balance due, or 0 if the patient has no appointments.
+     */
+    public int getBalance(Patient patient) {
+        int id = patient.getId();
+        return id >= 0 && id < balanceById.length ? balanceById[id] : 0;
+    }
+
+    /**
+     * Returns the number of appointments of a patient.
+     *
+     * @param patient The patient.
+     * @return The number of appointments.
+     */
+    public int getAppointmentCount(Patient patient) {
+        int id = patient.getId();
+        return id >= 0 && id < patientCountById.length ? patientCountById[id] : 0;
+    }
+
+    /**
+     * Returns the credit a provider earns from their appointments.
+     *
+     * @param provider The doctor or technician.
+     * @return The credit amount, or 0 if the provider has no appointments.
+     */
+    public int getCredit(Provider provider) {
+        return creditById[provider.getId()];
+    }
+
+    /**
+     * Returns the number of appointments of a provider.
+     *
+     * @param provider The doctor or technician.
+     * @return The number of appointments.
+     */
+    public int getAppointmentCount(Provider provider) {
+        return providerCountById[provider.getId()];
+    }
+
+    /**
+     * Returns the patients with appointments, ordered by profile (last name, first name, date of birth).
+     *
+     * @return The patients in PS order.
+     */
+    public Iterable<Patient> patients() {
+        return patients;
+    }
+
+    /**
+     * Returns the providers with appointments, ordered by last name, then first name.
+     *
+     * @return The providers in PC order.
+     */
+    public Iterable<Provider> providers() {
+        return ProviderIterator::new;
+    }
+
+    /**
+     * Makes the patient arrays large enough for the given number of ids.
+     */
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, balanceById.length * 2);
+        int[] balances = new int[capacity];
+        int[] counts = new int[capacity];
+        System.arraycopy(balanceById, 0, balances, 0, balanceById.length);
+        System.arraycopy(patientCountById, 0, counts, 0, patientCountById.length);
+        balanceById = balances;
+        patientCountById = counts;
+    }
+
+    /**
+     * Walks the catalog's sorted providers, skipping the ones without appointments.
+     */
+    private final class ProviderIterator implements Iterator<Provider> {
+        private int index = advance(0);
+
+        @Override
+        public boolean hasNext() {
+            return index < sortedProviders.size();
+        }
+
+        @Override
+        public Provider next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Provider provider = sortedProviders.get(index);
+            index = advance(index + 1);
+            return provider;
+        }
+
+        private int advance(int from) {
+            while (from < sortedProviders.size() && providerCountById[sortedProviders.get(from).getId()] == 0) {
+                from++;
+            }
+            return from;
+        }
+    }
+}
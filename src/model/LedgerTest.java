@@ -0,0 +1,95 @@
+package model;
+
+import org.junit.Test;
+import util.Date;
+import util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class LedgerTest {
+    private final Doctor doctorJohnson = new Doctor(new Profile("GARY", "JOHNSON", new Date(12, 13, 1977)),
+            Location.EDISON, Specialty.FAMILY, "85");
+    private final Doctor allergist = new Doctor(new Profile("ANDREW", "PATEL", new Date(1, 21, 1989)),
+            Location.BRIDGEWATER, Specialty.ALLERGIST, "01");
+    private final Technician technicianJohnson = new Technician(new Profile("GARY", "JOHNSON", new Date(11, 14, 1987)),
+            Location.PISCATAWAY, 110);
+    private final Date date = new Date(11, 4, 2024);
+
+    private AppointmentStore store() {
+        List<Provider> providers = new List<>();
+        providers.add(doctorJohnson);
+        providers.add(allergist);
+        providers.add(technicianJohnson);
+        return new AppointmentStore(new ProviderCatalog(providers));
+    }
+
+    @Test
+    public void testTotalsFollowEveryMutation() {
+        PatientRegistry registry = new PatientRegistry();
+        Patient john = registry.register(new Profile("John", "Doe", new Date(12, 13, 1989)));
+        Patient jane = registry.register(new Profile("Jane", "Roe", new Date(1, 1, 1990)));
+        AppointmentStore store = store();
+        Ledger ledger = store.getLedger();
+
+        Appointment first = new Appointment(date, Timeslot.ofSlot(1), jane, allergist);
+        Appointment second = new Imaging(date, Timeslot.ofSlot(2), jane, technicianJohnson, Radiology.XRAY);
+        Appointment third = new Appointment(date, Timeslot.ofSlot(3), john, allergist);
+        store.add(first);
+        store.add(second);
+        store.add(third);
+        assertEquals(460, ledger.getBalance(jane));
+        assertEquals(2, ledger.getAppointmentCount(jane));
+        assertEquals(350, ledger.getBalance(john));
+        assertEquals(700, ledger.getCredit(allergist));
+        assertEquals(110, ledger.getCredit(technicianJohnson));
+
+        // Rescheduling removes the old appointment and adds the new one
+        store.remove(third);
+        store.add(new Appointment(date, Timeslot.ofSlot(4), john, allergist));
+        assertEquals(350, ledger.getBalance(john));
+        assertEquals(2, ledger.getAppointmentCount(allergist));
+
+        store.remove(second);
+        assertEquals(350, ledger.getBalance(jane));
+        assertEquals(0, ledger.getCredit(technicianJohnson));
+        assertEquals(0, ledger.getAppointmentCount(technicianJohnson));
+
+        store.clear();
+        assertEquals(0, ledger.getBalance(jane));
+        assertEquals(0, ledger.getCredit(allergist));
+        assertFalse(ledger.patients().iterator().hasNext());
+        assertFalse(ledger.providers().iterator().hasNext());
+    }
+
+    @Test
+    public void testPatientsAndProvidersInSortedOrder() {
+        PatientRegistry registry = new PatientRegistry();
+        Patient roe = registry.register(new Profile("Jane", "Roe", new Date(1, 1, 1990)));
+        Patient doe = registry.register(new Profile("John", "Doe", new Date(12, 13, 1989)));
+        AppointmentStore store = store();
+        store.add(new Imaging(date, Timeslot.ofSlot(1), roe, technicianJohnson, Radiology.XRAY));
+        store.add(new Appointment(date, Timeslot.ofSlot(2), doe, allergist));
+        store.add(new Appointment(date, Timeslot.ofSlot(3), roe, doctorJohnson));
+
+        List<Patient> patients = new List<>();
+        for (Patient patient : store.getLedger().patients()) {
+            patients.add(patient);
+        }
+        assertEquals(2, patients.size());
+        assertSame(doe, patients.get(0));
+        assertSame(roe, patients.get(1));
+
+        List<Provider> providers = new List<>();
+        for (Provider provider : store.getLedger().providers()) {
+            providers.add(provider);
+        }
+        assertEquals(3, providers.size());
+        assertSame(doctorJohnson, providers.get(0)); // Same name: catalog order, and separate credits
+        assertSame(technicianJohnson, providers.get(1));
+        assertSame(allergist, providers.get(2));
+        assertEquals(250, store.getLedger().getCredit(doctorJohnson));
+        assertEquals(110, store.getLedger().getCredit(technicianJohnson));
+    }
+}
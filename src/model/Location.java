@@ -21,9 +21,11 @@ public enum Location {
 
     private final String county;
     private final String zip;
+    private final String text;
 
     /**
      * Constructor for the Location enum.
+     * The string representation is built here once, since it never changes.
      *
      * @param county The county in which the location is situated.
      * @param zip The zip code of the location.
@@ -31,6 +33,7 @@ public enum Location {
     Location(String county, String zip) {
         this.county = county;
         this.zip = zip;
+        this.text = name() + ", " + county.replace(" County", "") + " " + zip;
     }
 
     /**
@@ -41,8 +44,7 @@ public enum Location {
      */
     @Override
     public String toString() {
-
-        return name() + ", " + county.replace(" County", "") + " " + zip;
+        return text;
     }
 
     /**
@@ -14,6 +14,7 @@ package model;
  */
 public class Patient extends Person {
     private Visit visits;
+    private int id; // Dense id assigned by the PatientRegistry, -1 until registered
 
     /**
      * Constructs a Patient object with the specified profile.
@@ -24,6 +25,25 @@ public class Patient extends Person {
     public Patient(Profile profile) {
         super(profile);
         this.visits = null;//empty list
+        this.id = -1;
+    }
+
+    /**
+     * Returns the dense id the PatientRegistry assigned to this patient.
+     *
+     * @return The patient's id, from 0 to the registry size - 1, or -1 if the patient is not registered.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Sets the patient's id. Only the PatientRegistry assigns ids, once, when the patient is registered.
+     *
+     * @param id The patient's id.
+     */
+    void setId(int id) {
+        this.id = id;
     }
 
     /**
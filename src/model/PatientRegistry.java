@@ -0,0 +1,79 @@
+package model;
+import util.HashMap;
+import util.List;
+
+/**
+ * The PatientRegistry class keeps one canonical Patient object for each patient identity.
+ * Patients are found through a hash index on their Profile (first name, last name and date of birth),
+ * so every booking for the same person shares the same Patient instead of creating a new one.
+ * Each registered patient receives a dense integer id (the order in which they were registered),
+ * so other classes can keep per-patient data in plain arrays.
+ *
+ * @author Gursimar Singh
+ */
+public class PatientRegistry {
+    private final HashMap<Profile, Patient> patientsByProfile;
+    private final List<Patient> patients; // indexed by patient id
+
+    /**
+     * Creates an empty registry.
+     */
+    public PatientRegistry() {
+        patientsByProfile = new HashMap<>();
+        patients = new List<>();
+    }
+
+    /**
+     * Returns the patient with the given profile, registering a new patient if there is none yet.
+     *
+     * @param profile The patient's profile.
+     * @return The canonical Patient for that profile.
+     */
+    public Patient register(Profile profile) {
+        Patient patient = patientsByProfile.get(profile);
+        if (patient == null) {
+            patient = new Patient(profile);
+            patient.setId(patients.size());
+            patients.add(patient);
+            patientsByProfile.put(profile, patient);
+        }
+        return patient;
+    }
+
+    /**
+     * Finds the patient with the given profile.
+     *
+     * @param profile The patient's profile.
+     * @return The canonical Patient for that profile, or null if the patient is not registered.
+     */
+    public Patient find(Profile profile) {
+        return patientsByProfile.get(profile);
+    }
+
+    /**
+     * Returns the patient with the given id.
+     *
+     * @param id The patient id.
+     * @return The patient with that id.
+     */
+    public Patient get(int id) {
+        return patients.get(id);
+    }
+
+    /**
+     * Returns the number of registered patients.
+     *
+     * @return The number of patients; ids range from 0 to size() - 1.
+     */
+    public int size() {
+        return patients.size();
+    }
+
+    /**
+     * Removes every patient, so ids start again from 0.
+     */
+    public void clear() {
+        patientsByProfile.clear();
+        patients.clear();
+    }
+}
@@ -0,0 +1,44 @@
+package model;
+
+import org.junit.Test;
+import util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class PatientRegistryTest {
+
+    @Test
+    public void testSameProfileGivesSamePatient() {
+        PatientRegistry registry = new PatientRegistry();
+        Patient first = registry.register(new Profile("John", "Doe", new Date(12, 13, 1989)));
+        Patient second = registry.register(new Profile("John", "Doe", new Date(12, 13, 1989)));
+        Patient other = registry.register(new Profile("John", "Doe", new Date(12, 14, 1989)));
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void testDenseIds() {
+        PatientRegistry registry = new PatientRegistry();
+        Patient jane = registry.register(new Profile("Jane", "Roe", new Date(1, 1, 1990)));
+        Patient john = registry.register(new Profile("John", "Doe", new Date(12, 13, 1989)));
+        assertEquals(0, jane.getId());
+        assertEquals(1, john.getId());
+        assertSame(john, registry.get(1));
+        assertSame(jane, registry.find(new Profile("Jane", "Roe", new Date(1, 1, 1990))));
+    }
+
+    @Test
+    public void testClear() {
+        PatientRegistry registry = new PatientRegistry();
+        registry.register(new Profile("Jane", "Roe", new Date(1, 1, 1990)));
+        registry.clear();
+        assertEquals(0, registry.size());
+        assertNull(registry.find(new Profile("Jane", "Roe", new Date(1, 1, 1990))));
+        assertEquals(0, registry.register(new Profile("John", "Doe", new Date(12, 13, 1989))).getId());
+    }
+}
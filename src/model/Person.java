@@ -54,6 +54,16 @@ public class Person implements Comparable<Person> {
         return this.profile.equals(other.profile); // Compare based on profile
     }
 
+    /**
+     * Returns a hash code for the Person, consistent with equals().
+     *
+     * @return The hash code of the person's profile.
+     */
+    @Override
+    public int hashCode() {
+        return profile.hashCode();
+    }
+
     /**
      * Compare this Person to another Person based on their profile.
      *
@@ -83,6 +83,16 @@ public class Profile implements Comparable<Profile> {
         return this.fname.equals(other.fname) && this.lname.equals(other.lname) && this.dob.equals(other.dob);
     }
 
+    /**
+     * Returns a hash code for the profile, consistent with equals().
+     *
+     * @return The hash code built from the first name, last name and date of birth.
+     */
+    @Override
+    public int hashCode() {
+        return (fname.hashCode() * 31 + lname.hashCode()) * 31 + dob.hashCode();
+    }
+
     /**
      * Returns a string representation of the profile in the format "FirstName LastName DateOfBirth".
      *
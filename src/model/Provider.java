@@ -12,6 +12,7 @@ package model;
 public abstract class Provider extends Person {
 
     private final Location location;
+    private int id; // Dense id assigned by the ProviderCatalog, -1 until assigned
 
     /**
      * Constructs a Provider object with the specified location.
@@ -22,6 +23,7 @@ public abstract class Provider extends Person {
     public Provider(Profile profile, Location location) {
         super(profile); // Call the constructor of the Person class
         this.location = location;
+        this.id = -1;
     }
 
     /**
@@ -39,6 +41,24 @@ public abstract class Provider extends Person {
     }
 
 
+    /**
+     * Returns the dense id the ProviderCatalog assigned to this provider.
+     *
+     * @return The provider's id, from 0 to the catalog size - 1, or -1 if no catalog has assigned one.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Sets the provider's id. Only the ProviderCatalog assigns ids, once, while it is built.
+     *
+     * @param id The provider's id.
+     */
+    void setId(int id) {
+        this.id = id;
+    }
+
     /**
      * Returns the location of the provider.
      *
@@ -0,0 +1,93 @@
+package model;
+import util.Date;
+import util.HashMap;
+
+/**
+ * The ProviderCalendar class records which timeslots each provider has booked on each date.
+ * Since a day only has Timeslot.SLOTS.length timeslots, the bookings of one provider on one date
+ * are kept as a single bitmask where bit (slot - 1) is set when the provider is busy at that slot.
+ * Each booked date holds one array of masks indexed by the provider ids of the ProviderCatalog,
+ * so checking, booking and releasing a slot are each a single bit operation on that array.
+ *
+ * @author Gursimar Singh
+ */
+public class ProviderCalendar {
+    private final int providerCount;
+    private final HashMap<Date, int[]> days;
+
+    /**
+     * Creates an empty calendar for providers with ids from 0 to providerCount - 1.
+     *
+     * @param providerCount The number of providers in the catalog.
+     */
+    public ProviderCalendar(int providerCount) {
+        this.providerCount = providerCount;
+        days = new HashMap<>();
+    }
+
+    /**
+     * Checks if a provider is free at the given date and timeslot.
+     *
+     * @param provider The doctor or technician to check.
+     * @param date     The date to check.
+     * @param timeslot The timeslot to check.
+     * @return true if the provider has no booking at that slot, false otherwise.
+     */
+    public boolean isAvailable(Provider provider, Date date, Timeslot timeslot) {
+        int[] masks = days.get(date);
+        return masks == null || (masks[provider.getId()] & bit(timeslot)) == 0;
+    }
+
+    /**
+     * Marks a provider as busy at the given date and timeslot.
+     *
+     * @param provider The doctor or technician being booked.
+     * @param date     The date of the booking.
+     * @param timeslot The timeslot of the booking.
+     * @return true if the slot was free and is now booked, false if it was already booked.
+     */
+    public boolean book(Provider provider, Date date, Timeslot timeslot) {
+        int[] masks = days.get(date);
+        if (masks == null) {
+            masks = new int[providerCount];
+            days.put(date, masks);
+        }
+        int bit = bit(timeslot);
+        if ((masks[provider.getId()] & bit) != 0) {
+            return false; // Slot already taken
+        }
+        masks[provider.getId()] |= bit;
+        return true;
+    }
+
+    /**
+     * Marks a provider as free again at the given date and timeslot.
+     *
+     * @param provider The doctor or technician being released.
+     * @param date     The date of the booking.
+     * @param timeslot The timeslot of the booking.
+     */
+    public void release(Provider provider, Date date, Timeslot timeslot) {
+        int[] masks = days.get(date);
+        if (masks != null) {
+            masks[provider.getId()] &= ~bit(timeslot);
+        }
+    }
+
+    /**
+     * Removes every booking from the calendar.
+     */
+    public void clear() {
+        days.clear();
+    }
+
+    /**
+     * Returns the bit of a timeslot within a day's mask.
+     *
+     * @param timeslot The timeslot.
+     * @return A mask with only the timeslot's bit set.
+     */
+    private static int bit(Timeslot timeslot) {
+        return 1 << timeslot.getOrdinal();
+    }
+}
@@ -0,0 +1,62 @@
+package model;
+
+import org.junit.Test;
+import util.Date;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ProviderCalendarTest {
+    private final Date date = new Date(11, 4, 2024);
+    private final Date nextDay = new Date(11, 5, 2024);
+    private final Doctor patel = new Doctor(new Profile("ANDREW", "PATEL", new Date(1, 21, 1989)),
+            Location.BRIDGEWATER, Specialty.FAMILY, "01");
+    private final Technician fox = new Technician(new Profile("MONICA", "FOX", new Date(3, 15, 1995)), Location.EDISON, 130);
+
+    private ProviderCalendar calendar() {
+        patel.setId(0);
+        fox.setId(1);
+        return new ProviderCalendar(2);
+    }
+
+    @Test
+    public void testBookAndRelease() {
+        ProviderCalendar calendar = calendar();
+        assertTrue(calendar.isAvailable(patel, date, Timeslot.ofSlot(3)));
+        assertTrue(calendar.book(patel, date, Timeslot.ofSlot(3)));
+        assertFalse(calendar.isAvailable(patel, date, Timeslot.ofSlot(3)));
+
+        calendar.release(patel, date, Timeslot.ofSlot(3));
+        assertTrue(calendar.isAvailable(patel, date, Timeslot.ofSlot(3)));
+        assertTrue(calendar.book(patel, date, Timeslot.ofSlot(3))); // Free again
+        calendar.release(fox, nextDay, Timeslot.ofSlot(1)); // Releasing a slot never booked changes nothing
+        assertFalse(calendar.isAvailable(patel, date, Timeslot.ofSlot(3)));
+    }
+
+    @Test
+    public void testSameProviderDayAndSlotCollide() {
+        ProviderCalendar calendar = calendar();
+        assertTrue(calendar.book(patel, date, Timeslot.ofSlot(12)));
+        assertFalse(calendar.book(patel, new Date(11, 4, 2024), Timeslot.ofSlot(12))); // An equal date
+        assertFalse(calendar.isAvailable(patel, date, Timeslot.ofSlot(12)));
+    }
+
+    @Test
+    public void testDaysSlotsAndProvidersAreIndependent() {
+        ProviderCalendar calendar = calendar();
+        assertTrue(calendar.book(patel, date, Timeslot.ofSlot(1)));
+        assertTrue(calendar.isAvailable(patel, nextDay, Timeslot.ofSlot(1)));
+        assertTrue(calendar.isAvailable(patel, date, Timeslot.ofSlot(2)));
+        assertTrue(calendar.isAvailable(fox, date, Timeslot.ofSlot(1)));
+        assertTrue(calendar.book(fox, date, Timeslot.ofSlot(1)));
+        assertTrue(calendar.book(patel, nextDay, Timeslot.ofSlot(1)));
+
+        calendar.release(patel, date, Timeslot.ofSlot(1));
+        assertFalse(calendar.isAvailable(fox, date, Timeslot.ofSlot(1)));
+        assertFalse(calendar.isAvailable(patel, nextDay, Timeslot.ofSlot(1)));
+
+        calendar.clear();
+        assertTrue(calendar.isAvailable(fox, date, Timeslot.ofSlot(1)));
+        assertTrue(calendar.isAvailable(patel, nextDay, Timeslot.ofSlot(1)));
+    }
+}
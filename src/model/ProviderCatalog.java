@@ -0,0 +1,208 @@
+package model;
+import util.HashMap;
+import util.List;
+import util.sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * The ProviderCatalog class holds every provider loaded from providers.txt.
+ * The catalog is built once and never changes afterwards. While it is built, each provider
+ * receives a dense integer id (its position in the file), so other classes can keep
+ * per-provider data in plain arrays. The catalog also offers:
+ * - a hash index from NPI to Doctor,
+ * - the providers grouped by Location and the doctors grouped by Specialty,
+ * - the technicians in file order,
+ * - the providers sorted by last name, then first name,
+ * - a checksum of the provider list, kept in journals and snapshots so they are only read back
+ *   with the list they were written for.
+ * The lists returned by the catalog are shared and must not be modified.
+ *
+ * @author Gursimar Singh
+ */
+public class ProviderCatalog {
+    private final Provider[] providers;
+    private final HashMap<String, Doctor> doctorsByNpi;
+    private final List<Provider>[] providersByLocation;
+    private final List<Doctor>[] doctorsBySpecialty;
+    private final List<Technician> technicians;
+    private final List<Provider> sortedProviders;
+    private final int checksum;
+
+    /**
+     * Builds the catalog from the providers in the order they were read, without the text they
+     * were read from; the checksum is then taken over the providers themselves.
+     *
+     * @param loadedProviders The providers in file order.
+     */
+    public ProviderCatalog(List<Provider> loadedProviders) {
+        this(loadedProviders, null, null);
+    }
+
+    /**
+     * Builds the catalog from the providers in the order they were read from a provider file.
+     *
+     * @param loadedProviders The providers in file order.
+     * @param text            The bytes of the provider file.
+     */
+    public ProviderCatalog(List<Provider> loadedProviders, byte[] text) {
+        this(loadedProviders, null, text);
+    }
+
+    /**
+     * Builds the catalog from the providers in the order they were read, with their sorted order
+     * already known, e.g. from a compiled CatalogFile.
+     *
+     * @param loadedProviders The providers in file order.
+     * @param sortedIds       The provider ids sorted by last name, then first name, or null to sort here.
+     * @param text            The bytes of the provider file, or null if the providers were not read from one.
+     */
+    ProviderCatalog(List<Provider> loadedProviders, int[] sortedIds, byte[] text) {
+        providers = new Provider[loadedProviders.size()];
+        doctorsByNpi = new HashMap<>();
+        @SuppressWarnings({"unchecked", "rawtypes"}) // Java cannot create an array of List<Provider>
+        List<Provider>[] byLocation = (List<Provider>[]) new List[Location.values().length];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        List<Doctor>[] bySpecialty = (List<Doctor>[]) new List[Specialty.values().length];
+        providersByLocation = byLocation;
+        doctorsBySpecialty = bySpecialty;
+        technicians = new List<>();
+        sortedProviders = new List<>(providers.length);
+
+        for (int i = 0; i < providersByLocation.length; i++) {
+            providersByLocation[i] = new List<>();
+        }
+        for (int i = 0; i < doctorsBySpecialty.length; i++) {
+            doctorsBySpecialty[i] = new List<>();
+        }
+
+        for (int id = 0; id < providers.length; id++) {
+            Provider provider = loadedProviders.get(id);
+            provider.setId(id);
+            providers[id] = provider;
+            providersByLocation[provider.getLocation().ordinal()].add(provider);
+
+            if (provider instanceof Doctor doctor) {
+                if (!doctorsByNpi.containsKey(doctor.getNpi())) { // The first doctor listed keeps the NPI
+                    doctorsByNpi.put(doctor.getNpi(), doctor);
+                }
+                doctorsBySpecialty[doctor.getSpecialty().ordinal()].add(doctor);
+            } else if (provider instanceof Technician technician) {
+                technicians.add(technician);
+            }
+        }
+
+        if (sortedIds == null) {
+            sortedProviders.addAll(loadedProviders);
+            sort.provider(sortedProviders); // Sorted once, by last name then first name
+        } else {
+            for (int id : sortedIds) {
+                sortedProviders.add(providers[id]);
+            }
+        }
+
+        CRC32 crc = new CRC32();
+        if (text != null) {
+            crc.update(text);
+        } else {
+            for (Provider provider : providers) {
+                crc.update((provider + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        checksum = (int) crc.getValue();
+    }
+
+    /**
+     * Returns the number of providers in the catalog.
+     *
+     * @return The number of providers; ids range from 0 to size() - 1.
+     */
+    public int size() {
+        return providers.length;
+    }
+
+    /**
+     * Returns the checksum of the provider list: the CRC-32 of the provider file the catalog was read
+     * from, or of the providers' descriptions in id order if it was built without the file.
+     *
+     * @return The checksum of the provider list.
+     */
+    public int getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Returns the id of a provider of this catalog, checking that the catalog assigned it,
+     * before the id is written to a journal or a snapshot.
+     *
+     * @param provider The provider.
+     * @return The provider's id, from 0 to size() - 1.
+     * @throws IllegalArgumentException if the provider has no id or belongs to another catalog.
+     */
+    public int idOf(Provider provider) {
+        int id = provider.getId();
+        if (id < 0 || id >= providers.length || providers[id] != provider) {
+            throw new IllegalArgumentException(provider.getName() + " is not a provider of the catalog");
+        }
+        return id;
+    }
+
+    /**
+     * Returns the provider with the given id.
+     *
+     * @param id The provider id.
+     * @return The provider with that id.
+     */
+    public Provider get(int id) {
+        return providers[id];
+    }
+
+    /**
+     * Finds a doctor through their NPI.
+     *
+     * @param npi The National Provider Identification number.
+     * @return The Doctor with that NPI, or null if there is none.
+     */
+    public Doctor findDoctor(String npi) {
+        return doctorsByNpi.get(npi);
+    }
+
+    /**
+     * Returns the providers working at a location, in file order.
+     *
+     * @param location The location.
+     * @return The providers at that location.
+     */
+    public List<Provider> getProviders(Location location) {
+        return providersByLocation[location.ordinal()];
+    }
+
+    /**
+     * Returns the doctors with a specialty, in file order.
+     *
+     * @param specialty The specialty.
+     * @return The doctors with that specialty.
+     */
+    public List<Doctor> getDoctors(Specialty specialty) {
+        return doctorsBySpecialty[specialty.ordinal()];
+    }
+
+    /**
+     * Returns the technicians in file order.
+     *
+     * @return The technicians.
+     */
+    public List<Technician> getTechnicians() {
+        return technicians;
+    }
+
+    /**
+     * Returns the providers sorted by last name, then first name.
+     *
+     * @return The sorted providers.
+     */
+    public List<Provider> getSortedProviders() {
+        return sortedProviders;
+    }
+}
@@ -0,0 +1,102 @@
+package model;
+
+import org.junit.Test;
+import util.Date;
+import util.List;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ProviderCatalogTest {
+    private final Doctor patel = new Doctor(new Profile("ANDREW", "PATEL", new Date(1, 21, 1989)),
+            Location.BRIDGEWATER, Specialty.FAMILY, "01");
+    private final Doctor lim = new Doctor(new Profile("RACHAEL", "LIM", new Date(7, 9, 1987)),
+            Location.EDISON, Specialty.PEDIATRICIAN, "23");
+    private final Doctor anotherPatel = new Doctor(new Profile("ALICE", "PATEL", new Date(2, 2, 1980)),
+            Location.EDISON, Specialty.FAMILY, "01"); // Repeats an NPI
+    private final Technician fox = new Technician(new Profile("MONICA", "FOX", new Date(3, 15, 1995)), Location.EDISON, 130);
+
+    private ProviderCatalog catalog() {
+        List<Provider> providers = new List<>();
+        providers.add(patel);
+        providers.add(lim);
+        providers.add(fox);
+        providers.add(anotherPatel);
+        return new ProviderCatalog(providers);
+    }
+
+    @Test
+    public void testIdsFollowTheFileOrder() {
+        assertEquals(-1, patel.getId()); // Not assigned before a catalog is built
+        ProviderCatalog catalog = catalog();
+        assertEquals(4, catalog.size());
+        assertEquals(0, patel.getId());
+        assertEquals(2, fox.getId());
+        assertSame(anotherPatel, catalog.get(3));
+        assertEquals(1, catalog.idOf(lim));
+    }
+
+    @Test
+    public void testProvidersOutsideTheCatalogHaveNoId() {
+        ProviderCatalog catalog = catalog();
+        Technician stranger = new Technician(new Profile("JENNY", "PATEL", new Date(8, 9, 1991)), Location.CLARK, 125);
+        try {
+            catalog.idOf(stranger);
+            fail("a provider without an id was given one");
+        } catch (IllegalArgumentException e) {
+            assertEquals(-1, stranger.getId());
+        }
+
+        List<Provider> others = new List<>();
+        others.add(stranger);
+        new ProviderCatalog(others); // stranger now has id 0, as patel does in the first catalog
+        try {
+            catalog.idOf(stranger);
+            fail("a provider of another catalog was given an id");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testLookups() {
+        ProviderCatalog catalog = catalog();
+        assertSame(patel, catalog.findDoctor("01")); // The first doctor listed keeps the NPI
+        assertSame(lim, catalog.findDoctor("23"));
+        assertNull(catalog.findDoctor("99"));
+
+        assertEquals(3, catalog.getProviders(Location.EDISON).size());
+        assertSame(lim, catalog.getProviders(Location.EDISON).get(0));
+        assertEquals(2, catalog.getDoctors(Specialty.FAMILY).size());
+        assertEquals(1, catalog.getTechnicians().size());
+        assertSame(fox, catalog.getTechnicians().get(0));
+
+        List<Provider> sorted = catalog.getSortedProviders(); // By last name, then first name
+        assertSame(fox, sorted.get(0));
+        assertSame(lim, sorted.get(1));
+        assertSame(anotherPatel, sorted.get(2));
+        assertSame(patel, sorted.get(3));
+    }
+
+    @Test
+    public void testChecksumFollowsTheProviderList() {
+        byte[] text = "D PATEL".getBytes(StandardCharsets.UTF_8);
+        List<Provider> providers = new List<>();
+        providers.add(patel);
+        assertEquals(new ProviderCatalog(providers, text).getChecksum(), new ProviderCatalog(providers, text.clone()).getChecksum());
+        assertNotEquals(new ProviderCatalog(providers, text).getChecksum(),
+                new ProviderCatalog(providers, "D LIM".getBytes(StandardCharsets.UTF_8)).getChecksum());
+        assertEquals(catalog().getChecksum(), catalog().getChecksum());
+        List<Provider> reordered = new List<>();
+        reordered.add(lim);
+        reordered.add(patel);
+        reordered.add(fox);
+        reordered.add(anotherPatel);
+        assertNotEquals(catalog().getChecksum(), new ProviderCatalog(reordered).getChecksum());
+    }
+}
@@ -0,0 +1,121 @@
+package model;
+import util.Date;
+import util.DateParser;
+import util.List;
+
+import java.io.ByteArrayInputStream;
+import java.io.PrintStream;
+import java.util.Scanner;
+
+/**
+ * The ProviderParser class turns the text of providers.txt into providers.
+ * Each line holds the fields of one provider separated by two spaces:
+ * - D  first name  last name  MM/DD/YYYY  location  specialty  NPI, for a doctor,
+ * - T  first name  last name  MM/DD/YYYY  location  rate per visit, for a technician.
+ * The text file is the source of truth for the catalog, and a CatalogFile compiled from it
+ * is read back into the same providers.
+ *
+ * @author Gursimar Singh
+ */
+public class ProviderParser {
+    public static final String PROVIDER_FILE = "providers.txt";
+
+    private final DateParser dateParser = new DateParser();
+    private final PrintStream out;
+
+    /**
+     * Creates a parser.
+     *
+     * @param out The stream the errors about invalid lines are written to.
+     */
+    public ProviderParser(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Reads every provider of a provider file, in file order, skipping invalid lines.
+     *
+     * @param text The bytes of the file, in the default charset.
+     * @return The providers.
+     */
+    public List<Provider> parse(byte[] text) {
+        List<Provider> providerList = new List<>();
+        Scanner fileScanner = new Scanner(new ByteArrayInputStream(text));
+
+        while (fileScanner.hasNextLine()) {
+            String providerData = fileScanner.nextLine();
+
+            Provider provider = convertToProvider(providerData);
+            if (provider != null) {
+                providerList.add(provider);
+            }
+        }
+
+        fileScanner.close();
+        return providerList;
+    }
+
+    /**
+     * Converts a line of text into a Provider object.
+     *
+     * @param line A string containing provider details formatted as per specifications.
+     * @return A Provider instance if conversion is successful, or null for invalid formats.
+     */
+    public Provider convertToProvider(String line) {
+        String[] details = line.split("  "); // Maintain the two-space delimiter from providers.txt.
+
+        // check if Doctor or Tech
+        String providerCategory = details[0].trim();
+
+        // check length of details. If D, the details.length = y and if T then details.length = 6
+        if ((providerCategory.equals("D") && details.length != 7) ||
+                (providerCategory.equals("T") && details.length != 6)) {
+            out.println("Error: Invalid provider format.");
+            return null;
+        }
+
+        // get first name, last name, dob, and location
+        String firstName = details[1].trim();
+        String lastName = details[2].trim();
+        Date dateOfBirth = convertToDate(details[3].trim());
+        Location workLocation = convertToLocation(details[4].trim());
+
+        // check if doctor or tech
+        if (providerCategory.equals("D")) {
+            Specialty doctorSpecialty = Specialty.valueOf(details[5].trim()); // Make sure it matches the enum
+            String npiNumber = details[6].trim();
+            return new Doctor(new Profile(firstName, lastName, dateOfBirth), workLocation, doctorSpecialty, npiNumber);
+        } else if (providerCategory.equals("T")) {
+            int visitRate = Integer.parseInt(details[5].trim());
+            return new Technician(new Profile(firstName, lastName, dateOfBirth), workLocation, visitRate);
+        }
+
+        // return null if neither
+        return null;
+    }
+
+    /**
+     * converts a string to a date object
+     *
+     * @param dateStr A string that has a format of  "MM/DD/YYYY".
+     * @return A Date object or null if the format is invalid.
+     */
+    private Date convertToDate(String dateStr) {
+        return dateParser.parse(dateStr);
+    }
+
+    /**
+     * makes a string into a Location enum value.
+     *
+     * @param locationString The string representation of the location.
+     * @return The matching Location enum, or throws an exception if invalid.
+     */
+    private Location convertToLocation(String locationString) {
+        for (Location loc : Location.values()) {
+            if (loc.name().equalsIgnoreCase(locationString)) {
+                return loc;
+            }
+        }
+        throw new IllegalArgumentException("Error: Unknown location '" + locationString + "'.");
+    }
+}
@@ -0,0 +1,106 @@
+package model;
+import util.Date;
+import util.HashMap;
+
+/**
+ * The RoomOccupancy class records which imaging rooms are taken at each location, date and timeslot.
+ * For every booked date it keeps a matrix indexed by Location ordinal and Radiology ordinal,
+ * where each cell is a bitmask of the taken timeslots (bit slot - 1).
+ * Checking, booking and releasing a room are each a single bit operation on that matrix.
+ *
+ * @author Gursimar Singh
+ */
+public class RoomOccupancy {
+    private static final int ROOMS_PER_LOCATION = Radiology.values().length;
+    private static final int CELLS_PER_DAY = Location.values().length * ROOMS_PER_LOCATION;
+
+    private final HashMap<Date, int[]> days;
+
+    /**
+     * Creates an empty occupancy matrix.
+     */
+    public RoomOccupancy() {
+        days = new HashMap<>();
+    }
+
+    /**
+     * Checks if an imaging room at a location is free at the given date and timeslot.
+     *
+     * @param location The location of the room.
+     * @param room     The imaging room.
+     * @param date     The date to check.
+     * @param timeslot The timeslot to check.
+     * @return true if the room is free, false if it is taken.
+     */
+    public boolean isAvailable(Location location, Radiology room, Date date, Timeslot timeslot) {
+        int[] cells = days.get(date);
+        return cells == null || (cells[cell(location, room)] & bit(timeslot)) == 0;
+    }
+
+    /**
+     * Marks an imaging room at a location as taken at the given date and timeslot.
+     *
+     * @param location The location of the room.
+     * @param room     The imaging room.
+     * @param date     The date of the booking.
+     * @param timeslot The timeslot of the booking.
+     * @return true if the room was free and is now taken, false if it was already taken.
+     */
+    public boolean book(Location location, Radiology room, Date date, Timeslot timeslot) {
+        int[] cells = days.get(date);
+        if (cells == null) {
+            cells = new int[CELLS_PER_DAY];
+            days.put(date, cells);
+        }
+        int cell = cell(location, room);
+        int bit = bit(timeslot);
+        if ((cells[cell] & bit) != 0) {
+            return false; // Room already taken
+        }
+        cells[cell] |= bit;
+        return true;
+    }
+
+    /**
+     * Marks an imaging room at a location as free again at the given date and timeslot.
+     *
+     * @param location The location of the room.
+     * @param room     The imaging room.
+     * @param date     The date of the booking.
+     * @param timeslot The timeslot of the booking.
+     */
+    public void release(Location location, Radiology room, Date date, Timeslot timeslot) {
+        int[] cells = days.get(date);
+        if (cells != null) {
+            cells[cell(location, room)] &= ~bit(timeslot);
+        }
+    }
+
+    /**
+     * Frees every room on every date.
+     */
+    public void clear() {
+        days.clear();
+    }
+
+    /**
+     * Returns the matrix cell of a room at a location.
+     *
+     * @param location The location of the room.
+     * @param room     The imaging room.
+     * @return The index of the cell within a day's matrix.
+     */
+    private static int cell(Location location, Radiology room) {
+        return location.ordinal() * ROOMS_PER_LOCATION + room.ordinal();
+    }
+
+    /**
+     * Returns the bit of a timeslot within a cell.
+     *
+     * @param timeslot The timeslot.
+     * @return A mask with only the timeslot's bit set.
+     */
+    private static int bit(Timeslot timeslot) {
+        return 1 << timeslot.getOrdinal();
+    }
+}
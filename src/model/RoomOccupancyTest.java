@@ -0,0 +1,59 @@
+package model;
+
+import org.junit.Test;
+import util.Date;
+import util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RoomOccupancyTest {
+    private final Date date = new Date(11, 4, 2024);
+    private final Date nextDay = new Date(11, 5, 2024);
+
+    @Test
+    public void testOccupyAndFreeARoom() {
+        RoomOccupancy rooms = new RoomOccupancy();
+        assertTrue(rooms.isAvailable(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(3)));
+        assertTrue(rooms.book(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(3)));
+        assertFalse(rooms.isAvailable(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(3)));
+        assertFalse(rooms.book(Location.EDISON, Radiology.XRAY, new Date(11, 4, 2024), Timeslot.ofSlot(3)));
+
+        rooms.release(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(3));
+        assertTrue(rooms.isAvailable(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(3)));
+        assertTrue(rooms.book(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(3)));
+        rooms.clear();
+        assertTrue(rooms.isAvailable(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(3)));
+    }
+
+    @Test
+    public void testSameRoomElsewhereIsFree() {
+        RoomOccupancy rooms = new RoomOccupancy();
+        assertTrue(rooms.book(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(3)));
+        assertTrue(rooms.isAvailable(Location.EDISON, Radiology.XRAY, nextDay, Timeslot.ofSlot(3))); // Another date
+        assertTrue(rooms.isAvailable(Location.CLARK, Radiology.XRAY, date, Timeslot.ofSlot(3)));     // Another location
+        assertTrue(rooms.isAvailable(Location.EDISON, Radiology.CATSCAN, date, Timeslot.ofSlot(3))); // Another room
+        assertTrue(rooms.isAvailable(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(4)));    // Another slot
+        assertTrue(rooms.book(Location.EDISON, Radiology.XRAY, nextDay, Timeslot.ofSlot(3)));
+    }
+
+    @Test
+    public void testImagingBusiesTheTechnicianAndRoomOnlyOnItsDate() {
+        Technician fox = new Technician(new Profile("MONICA", "FOX", new Date(3, 15, 1995)), Location.EDISON, 130);
+        List<Provider> providers = new List<>();
+        providers.add(fox);
+        AppointmentStore store = new AppointmentStore(new ProviderCatalog(providers));
+        Patient john = new PatientRegistry().register(new Profile("John", "Doe", new Date(12, 13, 1989)));
+        Imaging imaging = new Imaging(date, Timeslot.ofSlot(3), john, fox, Radiology.XRAY);
+        store.add(imaging);
+
+        assertTrue(store.isProviderBooked(fox, date, Timeslot.ofSlot(3)));
+        assertTrue(store.isRoomBooked(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(3)));
+        assertFalse(store.isProviderBooked(fox, nextDay, Timeslot.ofSlot(3)));
+        assertFalse(store.isRoomBooked(Location.EDISON, Radiology.XRAY, nextDay, Timeslot.ofSlot(3)));
+
+        store.remove(imaging);
+        assertFalse(store.isProviderBooked(fox, date, Timeslot.ofSlot(3)));
+        assertFalse(store.isRoomBooked(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(3)));
+    }
+}
@@ -0,0 +1,55 @@
+package model;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import util.ChannelLineReader;
+
+/**
+ * The entry point for replaying a file of commands through the Clinic Management System.
+ *
+ * The commands are read from the file given as the first argument through a ChannelLineReader,
+ * and all output goes to one buffered stream over standard output that is flushed every
+ * FLUSH_INTERVAL lines (or the number given as the second argument) and at the end.
+ * The output is the same, byte for byte, as typing the commands into RunProject2.
+ *
+ * Usage: java model.RunBatch commandFile [flushInterval]
+ *
+ * @author Gursimar Singh
+ */
+public class RunBatch {
+    private static final int FLUSH_INTERVAL = 10000;
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: java model.RunBatch commandFile [flushInterval]");
+            System.exit(2);
+        }
+        int flushInterval = FLUSH_INTERVAL;
+        if (args.length == 2) {
+            try {
+                flushInterval = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                flushInterval = 0;
+            }
+            if (flushInterval < 1) {
+                System.err.println("Error: the flush interval must be a positive number.");
+                System.exit(2);
+            }
+        }
+
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), OUTPUT_BUFFER_SIZE), false);
+        try (ChannelLineReader reader = ChannelLineReader.open(Path.of(args[0]))) {
+            new ClinicManager(out).runBatch(reader, flushInterval);
+        } catch (IOException e) {
+            out.flush();
+            System.err.println("Error: cannot read " + args[0] + " (" + e.getMessage() + ").");
+            System.exit(1);
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,46 @@
+package model;
+
+import java.io.IOException;
+
+/**
+ * The entry point for serving the Clinic Management System to terminals over TCP.
+ *
+ * The providers are loaded and listed on the console as they are for RunProject2, and then the
+ * server listens on the loopback address at the port given as the argument (PORT by default).
+ * Every terminal that connects books against the same schedule.
+ *
+ * Usage: java model.RunServer [port]
+ *
+ * @author Gursimar Singh
+ */
+public class RunServer {
+    private static final int PORT = 5050;
+
+    public static void main(String[] args) {
+        if (args.length > 1) {
+            System.err.println("Usage: java model.RunServer [port]");
+            System.exit(2);
+        }
+        int port = PORT;
+        if (args.length == 1) {
+            try {
+                port = Integer.parseInt(args[0]);
+            } catch (NumberFormatException e) {
+                port = -1;
+            }
+            if (port < 0 || port > 65535) {
+                System.err.println("Error: the port must be a number from 0 to 65535.");
+                System.exit(2);
+            }
+        }
+
+        ClinicManager console = new ClinicManager();
+        try (ClinicServer server = new ClinicServer(console.getCore(), port)) {
+            System.out.println("Clinic server listening on " + server.getPort() + ".");
+            server.run();
+        } catch (IOException e) {
+            System.err.println("Error: cannot serve on port " + port + " (" + e.getMessage() + ").");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,678 @@
+package model;
+import util.CircleList;
+import util.Date;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The SchedulingCore class holds the appointments of the clinic and books, reschedules and cancels
+ * them safely for several terminals at once. Each terminal has its own ClinicManager, which parses
+ * commands and prints messages, and every ClinicManager of the clinic shares one core.
+ *
+ * A change first locks the patient it concerns, so changes for other patients run in parallel:
+ * - (patient name, date), for the patient's conflict checks (names ignore case, as find() does),
+ *   mapped onto a fixed array of lock stripes,
+ * - then the technician rotation, for imaging bookings and cancels, since the rotation moves one booking
+ *   at a time.
+ * Providers and imaging rooms take no lock: a booking reserves its timeslot in the SlotReservations
+ * with compare-and-set, so of two bookings racing for the same doctor and slot exactly one wins,
+ * and the other is told the doctor is not available. Availability checks are single reads.
+ * The store's indexes and sorted views are shared by everyone, so they are read under a read lock
+ * and changed under a short write lock, after the slot is reserved.
+ *
+ * The billing statement (PS) empties the clinic, so it waits for every other command to finish.
+ *
+ * With a Journal, every change is appended to it while the store's write lock is held, and the
+ * change only returns once its record is on disk, after every lock has been released so that
+ * other commands can join the same disk write. Opening the journal replays it first.
+ *
+ * Every snapshot interval, the core writes a Snapshot of all its appointments next to the journal
+ * ("<journal>.snapshot") and empties the journal, so a restart loads the snapshot and only replays
+ * the changes made since. Like the billing statement, a snapshot waits for every other command to finish.
+ *
+ * @author Gursimar Singh
+ */
+public class SchedulingCore {
+    private static final int STRIPES = 256; // lock stripes for the patient keys, a power of two
+
+    /**
+     * The outcome of a change.
+     */
+    public enum Status {
+        BOOKED,
+        RESCHEDULED,
+        CANCELED,
+        PATIENT_CONFLICT,     // The patient already has an appointment at that date and timeslot
+        PROVIDER_UNAVAILABLE, // The doctor is booked at that date and timeslot
+        NO_TECHNICIAN,        // No technician and room are free at that date and timeslot
+        NOT_FOUND,            // The appointment to change does not exist
+        IMAGING               // Imaging appointments cannot be rescheduled
+    }
+
+    /**
+     * The outcome of a change with the appointment it concerns: the booked appointment, the new
+     * appointment of a reschedule, the canceled appointment, or the appointment that could not be
+     * rescheduled. The appointment is null when it does not exist.
+     *
+     * @param status      The outcome.
+     * @param appointment The appointment, or null.
+     */
+    public record Result(Status status, Appointment appointment) {
+    }
+
+    private final ProviderCatalog catalog;
+    private final AppointmentStore store;
+    private final PatientRegistry registry;
+    private final ReentrantReadWriteLock gate;      // shared by every command, exclusive for the billing statement
+    private final ReentrantReadWriteLock storeLock; // guards the structures of the store and the registry
+    private final ReentrantLock[] patientLocks;
+    private final ReentrantLock rotationLock;
+    private final SlotReservations reservations;
+    private Journal journal; // null when changes are not journaled
+    private Path snapshotFile;
+    private int generation;         // the number of snapshots taken, recorded in the journal and the snapshot
+    private volatile long snapshotInterval; // journal records between snapshots, 0 for no snapshots
+    private volatile boolean deferSync; // changes return before their records are on disk
+
+    /**
+     * Creates an empty core for the providers of a catalog.
+     *
+     * @param catalog  The provider catalog.
+     * @param rotation The technician rotation list.
+     */
+    public SchedulingCore(ProviderCatalog catalog, CircleList<Technician> rotation) {
+        this.catalog = catalog;
+        this.store = new AppointmentStore(catalog, rotation);
+        this.registry = new PatientRegistry();
+        this.gate = new ReentrantReadWriteLock();
+        this.storeLock = new ReentrantReadWriteLock();
+        this.patientLocks = stripes();
+        this.rotationLock = new ReentrantLock();
+        this.reservations = new SlotReservations(catalog.size());
+    }
+
+    /**
+     * Returns the provider catalog.
+     *
+     * @return The catalog, which never changes.
+     */
+    public ProviderCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Loads the snapshot of a journal, if there is one, and replays the changes the journal holds
+     * after it, then journals every later change. Must be called before the core is used.
+     *
+     * @param file The journal file; it is created if it does not exist.
+     * @return The number of appointments after the replay.
+     * @throws IOException if the snapshot or the journal cannot be read or written.
+     */
+    public int openJournal(Path file) throws IOException {
+        Path snapshot = file.resolveSibling(file.getFileName() + ".snapshot");
+        try {
+            generation = Files.exists(snapshot) ? Snapshot.load(snapshot, this) : 0;
+            journal = Journal.open(file, this, generation);
+        } catch (IOException e) {
+            restoreClear(); // Do not keep half of a journal
+            throw e;
+        }
+        snapshotFile = snapshot;
+        return store.size();
+    }
+
+    /**
+     * Sets how often a snapshot is taken: once the journal holds this many records, the next command
+     * to finish writes a snapshot and empties the journal.
+     *
+     * @param records The number of journal records between snapshots, or 0 to take none.
+     */
+    public void setSnapshotInterval(long records) {
+        this.snapshotInterval = records;
+    }
+
+    /**
+     * Writes a snapshot of every appointment and empties the journal, once every other command
+     * has finished. Does nothing without a journal.
+     *
+     * @throws IOException if the snapshot or the journal cannot be written.
+     */
+    public void snapshot() throws IOException {
+        gate.writeLock().lock();
+        try {
+            writeSnapshot();
+        } finally {
+            gate.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Lets changes return before their journal records are on disk, for a single terminal that
+     * calls syncJournal() itself before it reports anything, such as a batch run.
+     *
+     * @param deferSync true to defer the disk writes, false to wait for them in every change.
+     */
+    public void setDeferSync(boolean deferSync) {
+        this.deferSync = deferSync;
+    }
+
+    /**
+     * Waits until the journal holds every change made so far. Does nothing without a journal.
+     */
+    public void syncJournal() {
+        if (journal != null) {
+            try {
+                journal.sync();
+                if (snapshotInterval > 0 && journal.records() >= snapshotInterval) {
+                    snapshotIfDue();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write the journal", e);
+            }
+        }
+    }
+
+    /**
+     * Closes the journal, if there is one. Changes made afterwards are not journaled.
+     *
+     * @throws IOException if the journal cannot be closed.
+     */
+    public void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    /**
+     * Books an office appointment with a doctor.
+     *
+     * @param date     The date of the appointment.
+     * @param timeslot The timeslot of the appointment.
+     * @param profile  The patient's profile.
+     * @param doctor   The doctor.
+     * @return BOOKED, PATIENT_CONFLICT or PROVIDER_UNAVAILABLE.
+     * @throws IllegalArgumentException if the date or timeslot is missing, or a name of the patient is
+     *                                  too long to be journaled.
+     */
+    public Result bookOffice(Date date, Timeslot timeslot, Profile profile, Doctor doctor) {
+        checkSlot(date, timeslot);
+        checkNames(profile);
+        return synced(tryBookOffice(date, timeslot, profile, doctor));
+    }
+
+    /**
+     * Books an imaging appointment with the next available technician in the rotation.
+     *
+     * @param date     The date of the appointment.
+     * @param timeslot The timeslot of the appointment.
+     * @param profile  The patient's profile.
+     * @param room     The imaging service.
+     * @return BOOKED, PATIENT_CONFLICT or NO_TECHNICIAN.
+     * @throws IllegalArgumentException if the date or timeslot is missing, or a name of the patient is
+     *                                  too long to be journaled.
+     */
+    public Result bookImaging(Date date, Timeslot timeslot, Profile profile, Radiology room) {
+        checkSlot(date, timeslot);
+        checkNames(profile);
+        return synced(tryBookImaging(date, timeslot, profile, room));
+    }
+
+    /**
+     * Moves an office appointment to another timeslot of the same day, with the same doctor.
+     *
+     * @param date        The date of the appointment, or null, which no appointment has.
+     * @param oldTimeslot The current timeslot, or null, which no appointment has.
+     * @param profile     The patient's profile; the names are matched ignoring case.
+     * @param newTimeslot The new timeslot.
+     * @return RESCHEDULED with the new appointment; NOT_FOUND; or IMAGING, PATIENT_CONFLICT or
+     *         PROVIDER_UNAVAILABLE with the appointment that was not moved.
+     * @throws IllegalArgumentException if the new timeslot is missing.
+     */
+    public Result reschedule(Date date, Timeslot oldTimeslot, Profile profile, Timeslot newTimeslot) {
+        if (newTimeslot == null) {
+            throw new IllegalArgumentException("The new timeslot is missing.");
+        }
+        return synced(tryReschedule(date, oldTimeslot, profile, newTimeslot));
+    }
+
+    /**
+     * Cancels an office or imaging appointment.
+     *
+     * @param date     The date of the appointment, or null, which no appointment has.
+     * @param timeslot The timeslot of the appointment, or null, which no appointment has.
+     * @param profile  The patient's profile; the names are matched ignoring case.
+     * @return CANCELED with the canceled appointment, or NOT_FOUND.
+     */
+    public Result cancel(Date date, Timeslot timeslot, Profile profile) {
+        return synced(tryCancel(date, timeslot, profile));
+    }
+
+    /**
+     * Books an office appointment; the journal record is not waited for.
+     */
+    private Result tryBookOffice(Date date, Timeslot timeslot, Profile profile, Doctor doctor) {
+        return locked(profile, date, () -> {
+            storeLock.readLock().lock();
+            try {
+                if (store.contains(date, timeslot, profile)) {
+                    return new Result(Status.PATIENT_CONFLICT, null);
+                }
+            } finally {
+                storeLock.readLock().unlock();
+            }
+            if (!reservations.reserveProvider(doctor, date, timeslot)) {
+                return new Result(Status.PROVIDER_UNAVAILABLE, null); // Booked, or another terminal won the slot
+            }
+            return new Result(Status.BOOKED, add(profile, patient -> new Appointment(date, timeslot, patient, doctor)));
+        });
+    }
+
+    /**
+     * Books an imaging appointment; the journal record is not waited for.
+     */
+    private Result tryBookImaging(Date date, Timeslot timeslot, Profile profile, Radiology room) {
+        return locked(profile, date, () -> {
+            if (hasAppointment(date, timeslot, profile)) {
+                return new Result(Status.PATIENT_CONFLICT, null);
+            }
+            rotationLock.lock();
+            try {
+                Technician technician;
+                storeLock.readLock().lock();
+                try {
+                    technician = store.getTechnicianScheduler().next(date, timeslot, room);
+                } finally {
+                    storeLock.readLock().unlock();
+                }
+                if (technician == null) {
+                    return new Result(Status.NO_TECHNICIAN, null);
+                }
+                // Only imaging bookings reserve technicians and rooms, and they hold the rotation lock
+                if (!reservations.reserveProvider(technician, date, timeslot)) {
+                    return new Result(Status.NO_TECHNICIAN, null);
+                }
+                if (!reservations.reserveRoom(technician.getLocation(), room, date, timeslot)) {
+                    reservations.releaseProvider(technician, date, timeslot);
+                    return new Result(Status.NO_TECHNICIAN, null);
+                }
+                return new Result(Status.BOOKED, add(profile, patient -> new Imaging(date, timeslot, patient, technician, room)));
+            } finally {
+                rotationLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Moves an office appointment; the journal record is not waited for.
+     */
+    private Result tryReschedule(Date date, Timeslot oldTimeslot, Profile profile, Timeslot newTimeslot) {
+        if (date == null || oldTimeslot == null) {
+            return new Result(Status.NOT_FOUND, null); // No appointment is at an invalid date or timeslot
+        }
+        return locked(profile, date, () -> {
+            Appointment appointment = find(date, oldTimeslot, profile);
+            if (appointment == null) {
+                return new Result(Status.NOT_FOUND, null);
+            }
+            if (appointment instanceof Imaging) {
+                return new Result(Status.IMAGING, appointment);
+            }
+            Patient patient = (Patient) appointment.getPatient();
+            Provider provider = (Provider) appointment.getProvider();
+            if (hasAppointment(date, newTimeslot, patient.getProfile())) {
+                return new Result(Status.PATIENT_CONFLICT, appointment);
+            }
+
+            if (!(provider instanceof Doctor) || !reservations.reserveProvider(provider, date, newTimeslot)) {
+                return new Result(Status.PROVIDER_UNAVAILABLE, appointment);
+            }
+            Appointment rescheduled = new Appointment(date, newTimeslot, patient, provider);
+            storeLock.writeLock().lock();
+            try {
+                store.remove(appointment);
+                store.add(rescheduled);
+                if (journal != null) {
+                    journal.appendReschedule(appointment, newTimeslot);
+                }
+            } finally {
+                storeLock.writeLock().unlock();
+            }
+            reservations.releaseProvider(provider, date, oldTimeslot);
+            return new Result(Status.RESCHEDULED, rescheduled);
+        });
+    }
+
+    /**
+     * Cancels an appointment; the journal record is not waited for.
+     */
+    private Result tryCancel(Date date, Timeslot timeslot, Profile profile) {
+        if (date == null || timeslot == null) {
+            return new Result(Status.NOT_FOUND, null); // No appointment is at an invalid date or timeslot
+        }
+        return locked(profile, date, () -> {
+            Appointment appointment = find(date, timeslot, profile);
+            if (appointment == null) {
+                return new Result(Status.NOT_FOUND, null);
+            }
+            Provider provider = (Provider) appointment.getProvider();
+            boolean imaging = appointment instanceof Imaging;
+            if (imaging) {
+                rotationLock.lock(); // So the technician scheduler never sees the store and the reservations disagree
+            }
+            try {
+                storeLock.writeLock().lock();
+                try {
+                    store.remove(appointment);
+                    if (journal != null) {
+                        journal.appendCancel(appointment);
+                    }
+                } finally {
+                    storeLock.writeLock().unlock();
+                }
+                reservations.releaseProvider(provider, date, timeslot);
+                if (imaging) {
+                    reservations.releaseRoom(provider.getLocation(), ((Imaging) appointment).getRoom(), date, timeslot);
+                }
+            } finally {
+                if (imaging) {
+                    rotationLock.unlock();
+                }
+            }
+            return new Result(Status.CANCELED, appointment);
+        });
+    }
+
+    /**
+     * Runs a command of one patient on one date while holding the gate for reading and the patient's
+     * lock stripe, and releases both whatever the command does.
+     */
+    private Result locked(Profile profile, Date date, Supplier<Result> command) {
+        ReentrantLock patientLock = patientLock(profile, date);
+        gate.readLock().lock();
+        try {
+            patientLock.lock();
+            try {
+                return command.get();
+            } finally {
+                patientLock.unlock();
+            }
+        } finally {
+            gate.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks if a patient has an appointment at a date and timeslot, matching the names ignoring case.
+     *
+     * @param date     The date.
+     * @param timeslot The timeslot.
+     * @param profile  The patient's profile.
+     * @return true if the patient has an appointment then, false otherwise.
+     */
+    public boolean hasAppointment(Date date, Timeslot timeslot, Profile profile) {
+        return find(date, timeslot, profile) != null;
+    }
+
+    /**
+     * Checks if a provider is free at a date and timeslot, without waiting for any change.
+     *
+     * @param provider The doctor or technician.
+     * @param date     The date.
+     * @param timeslot The timeslot.
+     * @return true if the provider is free, false if they are booked.
+     */
+    public boolean isProviderAvailable(Provider provider, Date date, Timeslot timeslot) {
+        return reservations.isProviderFree(provider, date, timeslot);
+    }
+
+    /**
+     * Lets a reader walk the store while no change is made to it, e.g. to print a listing.
+     * The reader must not change the store.
+     *
+     * @param reader The code that reads the store.
+     */
+    public void read(Consumer<AppointmentStore> reader) {
+        gate.readLock().lock();
+        storeLock.readLock().lock();
+        try {
+            reader.accept(store);
+        } finally {
+            storeLock.readLock().unlock();
+            gate.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lets a reader walk the store once every other command has finished, then empties the store and
+     * the patient registry, as the billing statement does.
+     *
+     * @param reader The code that reads the store before it is emptied.
+     */
+    public void readAndClear(Consumer<AppointmentStore> reader) {
+        gate.writeLock().lock();
+        try {
+            reader.accept(store);
+            store.clear();
+            registry.clear();
+            reservations.clear();
+            if (journal != null) {
+                journal.appendClear();
+            }
+        } finally {
+            gate.writeLock().unlock();
+        }
+        synced(null);
+    }
+
+    private Appointment find(Date date, Timeslot timeslot, Profile profile) {
+        storeLock.readLock().lock();
+        try {
+            return store.find(date, timeslot, profile);
+        } finally {
+            storeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Refuses a patient whose names are too long for a journal record, before anything is changed.
+     */
+    private static void checkSlot(Date date, Timeslot timeslot) {
+        if (date == null || timeslot == null) {
+            throw new IllegalArgumentException("An appointment needs a date and a timeslot.");
+        }
+    }
+
+    private static void checkNames(Profile profile) {
+        if (!fitsJournal(profile)) {
+            throw new IllegalArgumentException("The patient's names are longer than " + Journal.MAX_NAME_LENGTH + " characters.");
+        }
+    }
+
+    /**
+     * Checks that the names of a patient fit in a journal record.
+     *
+     * @param profile The patient's profile.
+     * @return true if neither name is longer than Journal.MAX_NAME_LENGTH characters.
+     */
+    static boolean fitsJournal(Profile profile) {
+        return profile.getFname().length() <= Journal.MAX_NAME_LENGTH && profile.getLname().length() <= Journal.MAX_NAME_LENGTH;
+    }
+
+    /**
+     * Registers the patient and adds the appointment made for them, once every check has passed,
+     * so a rejected booking leaves no patient behind.
+     */
+    private Appointment add(Profile profile, Function<Patient, Appointment> booking) {
+        Appointment appointment;
+        storeLock.writeLock().lock();
+        try {
+            appointment = booking.apply(registry.register(profile));
+            store.add(appointment);
+            if (journal != null) {
+                journal.appendBooking(appointment, store.getTechnicianScheduler().getRotationIndex());
+            }
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+        return appointment;
+    }
+
+    /**
+     * Waits until the journal holds every change made so far, unless the result changed nothing.
+     *
+     * @param result The result of a change, or null for a change that always counts.
+     * @return The result.
+     */
+    private Result synced(Result result) {
+        if (deferSync || (result != null && result.status() != Status.BOOKED
+                && result.status() != Status.RESCHEDULED && result.status() != Status.CANCELED)) {
+            return result;
+        }
+        syncJournal();
+        return result;
+    }
+
+    /**
+     * Writes a snapshot if the journal still holds a snapshot interval of records once every other
+     * command has finished; another command may have written one meanwhile.
+     */
+    private void snapshotIfDue() throws IOException {
+        gate.writeLock().lock();
+        try {
+            if (journal != null && snapshotInterval > 0 && journal.records() >= snapshotInterval) {
+                writeSnapshot();
+            }
+        } finally {
+            gate.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a snapshot and empties the journal; the caller holds the gate's write lock.
+     * A crash after the snapshot is renamed but before the journal is emptied is harmless: the journal
+     * is of an older generation than the snapshot, so the next start ignores its records. Snapshot.write
+     * returns only once the rename is on disk, so the emptied journal never outlives a lost rename.
+     */
+    private void writeSnapshot() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        journal.sync();
+        Snapshot.write(snapshotFile, store, registry, catalog, generation + 1);
+        generation++;
+        journal.reset(generation);
+    }
+
+    /*
+     * The restore methods load a snapshot and replay journal records while the journal is opened,
+     * before the core is used.
+     */
+
+    Patient restorePatient(Profile profile) {
+        return registry.register(profile);
+    }
+
+    void restoreAppointment(Appointment appointment) {
+        Provider provider = (Provider) appointment.getProvider();
+        reservations.reserveProvider(provider, appointment.getDate(), appointment.getTimeslot());
+        if (appointment instanceof Imaging imaging) {
+            reservations.reserveRoom(provider.getLocation(), imaging.getRoom(), imaging.getDate(), imaging.getTimeslot());
+        }
+        store.add(appointment);
+    }
+
+    void restoreAll(Appointment[] appointments, int count) {
+        for (int i = 0; i < count; i++) {
+            Appointment appointment = appointments[i];
+            Provider provider = (Provider) appointment.getProvider();
+            reservations.reserveProvider(provider, appointment.getDate(), appointment.getTimeslot());
+            if (appointment instanceof Imaging imaging) {
+                reservations.reserveRoom(provider.getLocation(), imaging.getRoom(), imaging.getDate(), imaging.getTimeslot());
+            }
+        }
+        store.addAll(appointments, count);
+    }
+
+    void restoreRotation(int rotationIndex) throws IOException {
+        try {
+            store.getTechnicianScheduler().setRotationIndex(rotationIndex);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("the file was written for another technician rotation");
+        }
+    }
+
+    void restoreOffice(Date date, Timeslot timeslot, Profile profile, Doctor doctor) {
+        restoreAppointment(new Appointment(date, timeslot, registry.register(profile), doctor));
+    }
+
+    void restoreImaging(Date date, Timeslot timeslot, Profile profile, Technician technician, Radiology room,
+                        int rotationIndex) throws IOException {
+        restoreAppointment(new Imaging(date, timeslot, registry.register(profile), technician, room));
+        restoreRotation(rotationIndex);
+    }
+
+    void restoreReschedule(Date date, Timeslot oldTimeslot, Profile profile, Provider provider, Timeslot newTimeslot)
+            throws IOException {
+        Appointment appointment = restoredAppointment(date, oldTimeslot, profile, provider);
+        store.remove(appointment);
+        store.add(new Appointment(date, newTimeslot, appointment.getPatient(), provider));
+        reservations.releaseProvider(provider, date, oldTimeslot);
+        reservations.reserveProvider(provider, date, newTimeslot);
+    }
+
+    void restoreCancel(Date date, Timeslot timeslot, Profile profile, Provider provider) throws IOException {
+        Appointment appointment = restoredAppointment(date, timeslot, profile, provider);
+        store.remove(appointment);
+        reservations.releaseProvider(provider, date, timeslot);
+        if (appointment instanceof Imaging imaging) {
+            reservations.releaseRoom(provider.getLocation(), imaging.getRoom(), date, timeslot);
+        }
+    }
+
+    void restoreClear() {
+        store.clear();
+        registry.clear();
+        reservations.clear();
+    }
+
+    /**
+     * Finds the appointment a journal record changes. Patients may share their names, and a snapshot
+     * rebuilds the store in another order than the bookings were made, so the whole record is matched.
+     */
+    private Appointment restoredAppointment(Date date, Timeslot timeslot, Profile profile, Provider provider)
+            throws IOException {
+        Appointment appointment = store.find(date, timeslot, profile, provider);
+        if (appointment == null) {
+            throw new IOException("the journal changes an appointment that does not exist");
+        }
+        return appointment;
+    }
+
+    private ReentrantLock patientLock(Profile profile, Date date) {
+        int hash = profile.getFname().toLowerCase(Locale.ROOT).hashCode() * 31 + profile.getLname().toLowerCase(Locale.ROOT).hashCode();
+        return patientLocks[stripe(hash * 31 + date.getEpochDay())];
+    }
+
+    private static int stripe(int hash) {
+        hash ^= hash >>> 16; // Spread the high bits, as HashMap does
+        return (hash * 0x9E3779B9 >>> 24) & (STRIPES - 1);
+    }
+
+    private static ReentrantLock[] stripes() {
+        ReentrantLock[] locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+}
@@ -0,0 +1,200 @@
+package model;
+
+import org.junit.Test;
+import util.CircleList;
+import util.Date;
+import util.HashMap;
+import util.List;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SchedulingCoreTest {
+    private static final int THREADS = 8;
+    private final Date date = new Date(11, 4, 2024);
+
+    private static SchedulingCore core(int doctors, int technicians) {
+        List<Provider> providers = new List<>();
+        Location[] locations = Location.values();
+        for (int i = 0; i < doctors; i++) {
+            providers.add(new Doctor(new Profile("DOC" + i, "SMITH", new Date(1, 1, 1970)),
+                    locations[i % locations.length], Specialty.FAMILY, String.valueOf(i)));
+        }
+        for (int i = 0; i < technicians; i++) {
+            providers.add(new Technician(new Profile("TECH" + i, "JONES", new Date(1, 1, 1980)),
+                    locations[i % locations.length], 100));
+        }
+        ProviderCatalog catalog = new ProviderCatalog(providers);
+        CircleList<Technician> rotation = new CircleList<>();
+        rotation.addAll(catalog.getTechnicians());
+        return new SchedulingCore(catalog, rotation);
+    }
+
+    private static void runInParallel(Runnable task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new List<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(pool.submit(task));
+            }
+            for (Future<?> future : futures) {
+                future.get(); // Rethrows a failure of the task
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testResultsOfOneTerminal() {
+        SchedulingCore core = core(1, 1);
+        Doctor doctor = (Doctor) core.getCatalog().get(0);
+        Profile john = new Profile("John", "Doe", new Date(12, 13, 1989));
+
+        assertEquals(SchedulingCore.Status.BOOKED, core.bookOffice(date, Timeslot.ofSlot(1), john, doctor).status());
+        assertEquals(SchedulingCore.Status.PATIENT_CONFLICT, core.bookOffice(date, Timeslot.ofSlot(1), john, doctor).status());
+        assertEquals(SchedulingCore.Status.PATIENT_CONFLICT, core.bookImaging(date, Timeslot.ofSlot(1), john, Radiology.XRAY).status());
+
+        SchedulingCore.Result moved = core.reschedule(date, Timeslot.ofSlot(1), new Profile("JOHN", "DOE", john.getDob()), Timeslot.ofSlot(2));
+        assertEquals(SchedulingCore.Status.RESCHEDULED, moved.status());
+        assertEquals(Timeslot.ofSlot(2), moved.appointment().getTimeslot());
+
+        assertEquals(SchedulingCore.Status.BOOKED, core.bookImaging(date, Timeslot.ofSlot(3), john, Radiology.XRAY).status());
+        assertEquals(SchedulingCore.Status.IMAGING, core.reschedule(date, Timeslot.ofSlot(3), john, Timeslot.ofSlot(4)).status());
+        assertEquals(SchedulingCore.Status.CANCELED, core.cancel(date, Timeslot.ofSlot(3), john).status());
+        assertEquals(SchedulingCore.Status.NOT_FOUND, core.cancel(date, Timeslot.ofSlot(3), john).status());
+        assertNull(core.cancel(date, Timeslot.ofSlot(5), john).appointment());
+
+        core.readAndClear(store -> assertEquals(1, store.size()));
+        core.read(store -> assertTrue(store.isEmpty()));
+    }
+
+    @Test(timeout = 10000)
+    public void testBadInputReleasesEveryLock() {
+        SchedulingCore core = core(1, 1);
+        Doctor doctor = (Doctor) core.getCatalog().get(0);
+        Profile john = new Profile("John", "Doe", new Date(12, 13, 1989));
+        assertEquals(SchedulingCore.Status.BOOKED, core.bookOffice(date, Timeslot.ofSlot(1), john, doctor).status());
+
+        assertEquals(SchedulingCore.Status.NOT_FOUND, core.cancel(null, Timeslot.ofSlot(1), john).status());
+        assertEquals(SchedulingCore.Status.NOT_FOUND, core.cancel(date, null, john).status());
+        assertEquals(SchedulingCore.Status.NOT_FOUND, core.reschedule(null, Timeslot.ofSlot(1), john, Timeslot.ofSlot(2)).status());
+        assertEquals(SchedulingCore.Status.NOT_FOUND, core.reschedule(date, null, john, Timeslot.ofSlot(2)).status());
+        try {
+            core.reschedule(date, Timeslot.ofSlot(1), john, null);
+            fail("an appointment was moved to no timeslot");
+        } catch (IllegalArgumentException e) {
+            // Refused before any lock was taken
+        }
+        try {
+            core.bookOffice(null, Timeslot.ofSlot(2), john, doctor);
+            fail("an appointment was booked on no date");
+        } catch (IllegalArgumentException e) {
+            // Refused before any lock was taken
+        }
+
+        core.readAndClear(store -> assertEquals(1, store.size())); // Waits for every command, as PS does
+    }
+
+    @Test
+    public void testRejectedBookingsRegisterNoPatient() {
+        SchedulingCore core = core(1, 0);
+        Doctor doctor = (Doctor) core.getCatalog().get(0);
+        Profile john = new Profile("John", "Doe", new Date(12, 13, 1989));
+        assertEquals(SchedulingCore.Status.BOOKED, core.bookOffice(date, Timeslot.ofSlot(1), john, doctor).status());
+        Profile jane = new Profile("Jane", "Roe", new Date(1, 1, 1990));
+        assertEquals(SchedulingCore.Status.PROVIDER_UNAVAILABLE, core.bookOffice(date, Timeslot.ofSlot(1), jane, doctor).status());
+        assertEquals(SchedulingCore.Status.NO_TECHNICIAN, core.bookImaging(date, Timeslot.ofSlot(1), jane, Radiology.XRAY).status());
+
+        Profile ann = new Profile("Ann", "Lee", new Date(3, 3, 1980));
+        SchedulingCore.Result booked = core.bookOffice(date, Timeslot.ofSlot(2), ann, doctor);
+        assertEquals(1, ((Patient) booked.appointment().getPatient()).getId()); // Jane was never registered
+    }
+
+    @Test
+    public void testNamesMatchUnderATurkishDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR")); // "I" lowercases to a dotless i
+        try {
+            SchedulingCore core = core(1, 0);
+            Doctor doctor = (Doctor) core.getCatalog().get(0);
+            Date dob = new Date(1, 1, 1990);
+            assertEquals(SchedulingCore.Status.BOOKED,
+                    core.bookOffice(date, Timeslot.ofSlot(1), new Profile("IVY", "LIND", dob), doctor).status());
+            assertEquals(SchedulingCore.Status.CANCELED,
+                    core.cancel(date, Timeslot.ofSlot(1), new Profile("ivy", "lind", dob)).status());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void testOnlyOneBookingWinsASlot() throws Exception {
+        SchedulingCore core = core(1, 0);
+        Doctor doctor = (Doctor) core.getCatalog().get(0);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger patients = new AtomicInteger();
+
+        runInParallel(() -> {
+            for (int i = 0; i < 200; i++) {
+                Profile profile = new Profile("P" + patients.incrementAndGet(), "Doe", new Date(1, 1, 1990));
+                Timeslot timeslot = Timeslot.ofSlot(1 + i % Timeslot.SLOTS.length);
+                if (core.bookOffice(date, timeslot, profile, doctor).status() == SchedulingCore.Status.BOOKED) {
+                    booked.incrementAndGet();
+                }
+            }
+        });
+        assertEquals(Timeslot.SLOTS.length, booked.get());
+        core.read(store -> assertEquals(Timeslot.SLOTS.length, store.size()));
+    }
+
+    @Test
+    public void testParallelChangesKeepTheStoreConsistent() throws Exception {
+        SchedulingCore core = core(40, 30);
+        AtomicInteger seeds = new AtomicInteger();
+
+        runInParallel(() -> {
+            Random random = new Random(seeds.incrementAndGet());
+            for (int i = 0; i < 3000; i++) {
+                Date day = new Date(11, 4 + random.nextInt(5), 2024);
+                Timeslot timeslot = Timeslot.ofSlot(1 + random.nextInt(Timeslot.SLOTS.length));
+                Profile profile = new Profile("P" + random.nextInt(50), "Doe", new Date(1, 1, 1990));
+                switch (random.nextInt(4)) {
+                    case 0 -> core.bookOffice(day, timeslot, profile, (Doctor) core.getCatalog().get(random.nextInt(40)));
+                    case 1 -> core.bookImaging(day, timeslot, profile, Radiology.values()[random.nextInt(3)]);
+                    case 2 -> core.reschedule(day, timeslot, profile, Timeslot.ofSlot(1 + random.nextInt(Timeslot.SLOTS.length)));
+                    default -> core.cancel(day, timeslot, profile);
+                }
+            }
+        });
+
+        core.read(store -> {
+            HashMap<String, Boolean> taken = new HashMap<>();
+            int credits = 0;
+            for (Appointment appointment : store) {
+                Provider provider = (Provider) appointment.getProvider();
+                String slot = appointment.getDate() + " " + appointment.getTimeslot();
+                assertNull(taken.put(provider.getId() + " " + slot, true)); // Providers are never booked twice
+                assertNull(taken.put(appointment.getPatient().getProfile() + " " + slot, true)); // Nor patients
+                if (appointment instanceof Imaging imaging) {
+                    assertNull(taken.put(provider.getLocation() + " " + imaging.getRoom() + " " + slot, true)); // Nor rooms
+                }
+                credits += provider.rate();
+            }
+            int ledgerCredits = 0;
+            for (Provider provider : store.getLedger().providers()) {
+                ledgerCredits += store.getLedger().getCredit(provider);
+            }
+            assertEquals(credits, ledgerCredits);
+        });
+    }
+}
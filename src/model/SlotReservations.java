@@ -0,0 +1,156 @@
+package model;
+import util.Date;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The SlotReservations class records which timeslots each provider and each imaging room are taken,
+ * without locks. Every date has one AtomicLongArray with a word for each provider (by provider id)
+ * followed by a word for each (location, room) pair, and bit n of a word stands for the timeslot
+ * with ordinal n. A reservation sets its bit with compare-and-set and fails if the bit is already
+ * set, so two bookings racing for the same slot cannot both win, and releasing clears the bit
+ * the same way. Checking a slot is a single read.
+ *
+ * The arrays of the dates are kept in a ConcurrentHashMap, so a date's array is created only once.
+ *
+ * @author Gursimar Singh
+ */
+public class SlotReservations {
+    private static final int ROOMS_PER_LOCATION = Radiology.values().length;
+    private static final int ROOM_CELLS = Location.values().length * ROOMS_PER_LOCATION;
+
+    private final int providerCount;
+    private final ConcurrentHashMap<Date, AtomicLongArray> days;
+
+    /**
+     * Creates empty reservations for the providers of a catalog.
+     *
+     * @param providerCount The number of providers in the catalog.
+     */
+    public SlotReservations(int providerCount) {
+        this.providerCount = providerCount;
+        this.days = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Checks if a provider is free at a date and timeslot.
+     *
+     * @param provider The doctor or technician.
+     * @param date     The date.
+     * @param timeslot The timeslot.
+     * @return true if the provider has no reservation then, false otherwise.
+     */
+    public boolean isProviderFree(Provider provider, Date date, Timeslot timeslot) {
+        return isFree(date, provider.getId(), timeslot);
+    }
+
+    /**
+     * Checks if an imaging room is free at a date and timeslot.
+     *
+     * @param location The location of the room.
+     * @param room     The imaging room.
+     * @param date     The date.
+     * @param timeslot The timeslot.
+     * @return true if the room has no reservation then, false otherwise.
+     */
+    public boolean isRoomFree(Location location, Radiology room, Date date, Timeslot timeslot) {
+        return isFree(date, roomWord(location, room), timeslot);
+    }
+
+    /**
+     * Reserves a timeslot of a provider.
+     *
+     * @param provider The doctor or technician.
+     * @param date     The date.
+     * @param timeslot The timeslot.
+     * @return true if the slot was reserved, false if it was already taken.
+     */
+    public boolean reserveProvider(Provider provider, Date date, Timeslot timeslot) {
+        return reserve(date, provider.getId(), timeslot);
+    }
+
+    /**
+     * Reserves a timeslot of an imaging room.
+     *
+     * @param location The location of the room.
+     * @param room     The imaging room.
+     * @param date     The date.
+     * @param timeslot The timeslot.
+     * @return true if the slot was reserved, false if it was already taken.
+     */
+    public boolean reserveRoom(Location location, Radiology room, Date date, Timeslot timeslot) {
+        return reserve(date, roomWord(location, room), timeslot);
+    }
+
+    /**
+     * Frees a timeslot of a provider.
+     *
+     * @param provider The doctor or technician.
+     * @param date     The date.
+     * @param timeslot The timeslot.
+     */
+    public void releaseProvider(Provider provider, Date date, Timeslot timeslot) {
+        release(date, provider.getId(), timeslot);
+    }
+
+    /**
+     * Frees a timeslot of an imaging room.
+     *
+     * @param location The location of the room.
+     * @param room     The imaging room.
+     * @param date     The date.
+     * @param timeslot The timeslot.
+     */
+    public void releaseRoom(Location location, Radiology room, Date date, Timeslot timeslot) {
+        release(date, roomWord(location, room), timeslot);
+    }
+
+    /**
+     * Frees every timeslot. No reservation may be made or released at the same time.
+     */
+    public void clear() {
+        days.clear();
+    }
+
+    private boolean isFree(Date date, int word, Timeslot timeslot) {
+        AtomicLongArray words = days.get(date);
+        return words == null || (words.get(word) & bit(timeslot)) == 0;
+    }
+
+    private boolean reserve(Date date, int word, Timeslot timeslot) {
+        AtomicLongArray words = days.computeIfAbsent(date, day -> new AtomicLongArray(providerCount + ROOM_CELLS));
+        long bit = bit(timeslot);
+        while (true) {
+            long current = words.get(word);
+            if ((current & bit) != 0) {
+                return false; // Slot already taken
+            }
+            if (words.compareAndSet(word, current, current | bit)) {
+                return true;
+            } // Another slot of the same word changed first, so try again
+        }
+    }
+
+    private void release(Date date, int word, Timeslot timeslot) {
+        AtomicLongArray words = days.get(date);
+        if (words == null) {
+            return;
+        }
+        long bit = bit(timeslot);
+        while (true) {
+            long current = words.get(word);
+            if ((current & bit) == 0 || words.compareAndSet(word, current, current & ~bit)) {
+                return;
+            }
+        }
+    }
+
+    private int roomWord(Location location, Radiology room) {
+        return providerCount + location.ordinal() * ROOMS_PER_LOCATION + room.ordinal();
+    }
+
+    private static long bit(Timeslot timeslot) {
+        return 1L << timeslot.getOrdinal();
+    }
+}
@@ -0,0 +1,77 @@
+package model;
+
+import org.junit.Test;
+import util.Date;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SlotReservationsTest {
+    private final Doctor doctor = new Doctor(new Profile("ANDREW", "PATEL", new Date(1, 21, 1989)),
+            Location.BRIDGEWATER, Specialty.FAMILY, "01");
+    private final Date date = new Date(11, 4, 2024);
+
+    private SlotReservations reservations() {
+        doctor.setId(0);
+        return new SlotReservations(1);
+    }
+
+    @Test
+    public void testReserveAndRelease() {
+        SlotReservations reservations = reservations();
+        assertTrue(reservations.isProviderFree(doctor, date, Timeslot.ofSlot(3)));
+        assertTrue(reservations.reserveProvider(doctor, date, Timeslot.ofSlot(3)));
+        assertFalse(reservations.reserveProvider(doctor, date, Timeslot.ofSlot(3)));
+        assertFalse(reservations.isProviderFree(doctor, date, Timeslot.ofSlot(3)));
+        assertTrue(reservations.isProviderFree(doctor, date, Timeslot.ofSlot(4)));
+        assertTrue(reservations.isProviderFree(doctor, new Date(11, 5, 2024), Timeslot.ofSlot(3)));
+
+        reservations.releaseProvider(doctor, date, Timeslot.ofSlot(3));
+        assertTrue(reservations.isProviderFree(doctor, date, Timeslot.ofSlot(3)));
+    }
+
+    @Test
+    public void testRoomsAreSeparateFromProviders() {
+        SlotReservations reservations = reservations();
+        assertTrue(reservations.reserveRoom(Location.CLARK, Radiology.XRAY, date, Timeslot.ofSlot(1)));
+        assertFalse(reservations.reserveRoom(Location.CLARK, Radiology.XRAY, date, Timeslot.ofSlot(1)));
+        assertTrue(reservations.isRoomFree(Location.CLARK, Radiology.CATSCAN, date, Timeslot.ofSlot(1)));
+        assertTrue(reservations.isRoomFree(Location.EDISON, Radiology.XRAY, date, Timeslot.ofSlot(1)));
+        assertTrue(reservations.isProviderFree(doctor, date, Timeslot.ofSlot(1)));
+
+        reservations.clear();
+        assertTrue(reservations.isRoomFree(Location.CLARK, Radiology.XRAY, date, Timeslot.ofSlot(1)));
+    }
+
+    @Test
+    public void testEachSlotIsWonOnce() throws Exception {
+        SlotReservations reservations = reservations();
+        AtomicInteger wins = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (Timeslot timeslot : Timeslot.SLOTS) { // Every thread races for every slot of the same word
+                    if (reservations.reserveProvider(doctor, date, timeslot)) {
+                        wins.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Timeslot.SLOTS.length, wins.get());
+    }
+}
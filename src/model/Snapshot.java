@@ -0,0 +1,199 @@
+package model;
+import util.Date;
+import util.List;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The Snapshot class writes the whole state of a SchedulingCore to a compact binary file, and loads
+ * it back, so a restart reads one file instead of replaying every change ever journaled.
+ * A snapshot holds:
+ * - every patient with an appointment, numbered from 0 in the order of their first appointment,
+ * - every appointment in date/time/provider order, with its patient number, provider id and imaging room,
+ * - the technician rotation index.
+ *
+ * File format: a header (MAGIC, VERSION, number of providers in the catalog, checksum of the provider list,
+ * journal generation, rotation index, number of patients, number of appointments), the patients as
+ * [short length][UTF-8 first name][short length][UTF-8 last name][int packed date of birth],
+ * the appointments as [int packed date][byte timeslot][int patient number][short provider id][byte room, -1 for office],
+ * and a CRC-32 of everything before it.
+ *
+ * A snapshot is written to a temporary file that is forced to disk and then renamed over the old one,
+ * so a crash leaves either the old snapshot or the new one, never a part of one. The directory is forced
+ * after the rename, before the journal is emptied.
+ *
+ * @author Gursimar Singh
+ */
+public class Snapshot {
+    private static final int MAGIC = 0x434C4E53; // "CLNS"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 32;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int MAX_ENTRY = 2 * (2 + Short.MAX_VALUE) + 4; // the largest patient entry
+    private static final byte OFFICE = -1;
+
+    private Snapshot() {
+    }
+
+    /**
+     * Writes a snapshot of a store, replacing the previous snapshot.
+     * Nothing may change the store or the registry meanwhile.
+     *
+     * @param file          The snapshot file.
+     * @param store         The appointments.
+     * @param registry      The registered patients.
+     * @param catalog       The provider catalog the appointments refer to.
+     * @param generation    The generation of the journal that continues the snapshot.
+     * @throws IOException if the snapshot cannot be written; the previous snapshot is then kept.
+     */
+    static void write(Path file, AppointmentStore store, PatientRegistry registry, ProviderCatalog catalog,
+                      int generation) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int[] numbers = new int[registry.size()]; // patient number + 1 by patient id, 0 for none yet
+            List<Patient> patients = new List<>();
+            for (Appointment appointment : store) {
+                Patient patient = (Patient) appointment.getPatient();
+                if (numbers[patient.getId()] == 0) {
+                    patients.add(patient);
+                    numbers[patient.getId()] = patients.size();
+                }
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            CRC32 crc = new CRC32();
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(catalog.size()).putInt(catalog.getChecksum()).putInt(generation)
+                    .putInt(store.getTechnicianScheduler().getRotationIndex())
+                    .putInt(patients.size()).putInt(store.size());
+            for (Patient patient : patients) {
+                if (buffer.remaining() < MAX_ENTRY) {
+                    drain(buffer, channel, crc);
+                }
+                Journal.putProfile(buffer, patient.getProfile());
+            }
+            for (Appointment appointment : store) {
+                if (buffer.remaining() < MAX_ENTRY) {
+                    drain(buffer, channel, crc);
+                }
+                buffer.putInt(Journal.packDate(appointment.getDate()));
+                buffer.put((byte) appointment.getTimeslot().getOrdinal());
+                buffer.putInt(numbers[((Patient) appointment.getPatient()).getId()] - 1);
+                buffer.putShort((short) catalog.idOf((Provider) appointment.getProvider()));
+                buffer.put(appointment instanceof Imaging imaging ? (byte) imaging.getRoom().ordinal() : OFFICE);
+            }
+            drain(buffer, channel, crc);
+            buffer.putInt((int) crc.getValue());
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the entries of a directory to disk, so a rename in it survives a crash. The journal is
+     * emptied right after the snapshot is renamed into place, and that must never reach the disk first.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Loads a snapshot into an empty core.
+     *
+     * @param file The snapshot file.
+     * @param core The core; nothing else may use it meanwhile.
+     * @return The generation of the journal that continues the snapshot.
+     * @throws IOException if the file cannot be read, is damaged, or was written for another catalog.
+     */
+    static int load(Path file, SchedulingCore core) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + 4 || size > Integer.MAX_VALUE) {
+                throw new IOException("not a snapshot file");
+            }
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+            crc.update(in.slice(0, (int) size - 4));
+            if (in.getInt((int) size - 4) != (int) crc.getValue()) {
+                throw new IOException("the snapshot is damaged");
+            }
+            in.limit((int) size - 4);
+
+            if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+                throw new IOException("not a snapshot file");
+            }
+            if (in.getInt() != core.getCatalog().size() || in.getInt() != core.getCatalog().getChecksum()) {
+                throw new IOException("the snapshot was written for another provider list");
+            }
+            int generation = in.getInt();
+            int rotationIndex = in.getInt();
+            Patient[] patients = new Patient[Math.min(in.getInt(), in.remaining())]; // A damaged count fails below
+            Appointment[] appointments = new Appointment[Math.min(in.getInt(), in.remaining())];
+
+            for (int number = 0; number < patients.length; number++) {
+                patients[number] = core.restorePatient(Journal.getProfile(in));
+                if (patients[number].getId() != number) { // The registry was empty, so ids follow the numbers
+                    throw new IOException("the snapshot holds a patient twice");
+                }
+            }
+            int packedDate = -1;
+            Date date = null;
+            for (int i = 0; i < appointments.length; i++) {
+                int packed = in.getInt();
+                if (packed != packedDate) { // The appointments are in date order, so dates are shared
+                    packedDate = packed;
+                    date = Journal.unpackDate(packed);
+                }
+                Timeslot timeslot = Journal.timeslot(in.get());
+                int number = in.getInt();
+                if (number < 0 || number >= patients.length) {
+                    throw new IOException("unknown patient " + number);
+                }
+                Provider provider = Journal.provider(core, in.getShort());
+                byte room = in.get();
+                if (room == OFFICE && provider instanceof Doctor) {
+                    appointments[i] = new Appointment(date, timeslot, patients[number], provider);
+                } else if (room != OFFICE && provider instanceof Technician) {
+                    appointments[i] = new Imaging(date, timeslot, patients[number], provider, Journal.room(room));
+                } else {
+                    throw new IOException("an appointment in the snapshot is with the wrong kind of provider");
+                }
+            }
+            if (in.hasRemaining()) {
+                throw new IOException("the snapshot has extra bytes");
+            }
+            core.restoreAll(appointments, appointments.length);
+            core.restoreRotation(rotationIndex);
+            return generation;
+        } catch (RuntimeException e) {
+            throw new IOException("the snapshot is damaged", e); // e.g. a count larger than the file
+        }
+    }
+
+    /**
+     * Writes the buffer to the channel, adding it to the checksum, and empties it.
+     */
+    private static void drain(ByteBuffer buffer, FileChannel channel, CRC32 crc) throws IOException {
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
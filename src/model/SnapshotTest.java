@@ -0,0 +1,272 @@
+package model;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import util.CircleList;
+import util.Date;
+import util.List;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SnapshotTest {
+    private final Date date = new Date(11, 4, 2024);
+    private final Profile john = new Profile("John", "Doe", new Date(12, 13, 1989));
+    private final Profile jane = new Profile("Jane", "Roe", new Date(1, 1, 1990));
+    private final Profile bob = new Profile("Bob", "Lee", new Date(5, 5, 1985));
+    private Path directory;
+    private Path file;
+    private Path snapshot;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("snapshot");
+        file = directory.resolve("clinic.journal");
+        snapshot = directory.resolve("clinic.journal.snapshot");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static SchedulingCore core() {
+        return core("01");
+    }
+
+    private static SchedulingCore core(String firstNpi) {
+        List<Provider> providers = new List<>();
+        providers.add(new Doctor(new Profile("ANDREW", "PATEL", new Date(1, 21, 1989)),
+                Location.BRIDGEWATER, Specialty.FAMILY, firstNpi));
+        providers.add(new Technician(new Profile("JENNY", "PATEL", new Date(8, 9, 1991)), Location.CLARK, 125));
+        providers.add(new Technician(new Profile("MONICA", "FOX", new Date(3, 15, 1995)), Location.EDISON, 130));
+        return core(providers);
+    }
+
+    private static SchedulingCore largeCore() {
+        List<Provider> providers = new List<>();
+        Location[] locations = Location.values();
+        for (int i = 0; i < 12; i++) {
+            providers.add(new Doctor(new Profile("DOC" + i, i % 2 == 0 ? "SMITH" : "ADAMS", new Date(1, 1, 1970)),
+                    locations[i % locations.length], Specialty.FAMILY, String.valueOf(i)));
+        }
+        for (int i = 0; i < 8; i++) {
+            providers.add(new Technician(new Profile("TECH" + i, "JONES", new Date(1, 1, 1980)),
+                    locations[i % locations.length], 100));
+        }
+        return core(providers);
+    }
+
+    private static SchedulingCore core(List<Provider> providers) {
+        ProviderCatalog catalog = new ProviderCatalog(providers);
+        CircleList<Technician> rotation = new CircleList<>();
+        rotation.addAll(catalog.getTechnicians());
+        return new SchedulingCore(catalog, rotation);
+    }
+
+    private static String listing(SchedulingCore core) {
+        StringBuilder text = new StringBuilder();
+        core.read(store -> {
+            append(text, store);
+            append(text, store.byPatient());
+            append(text, store.officeByCounty());
+            append(text, store.imagingByCounty());
+            for (Patient patient : store.getLedger().patients()) {
+                text.append(patient.getProfile()).append(' ').append(store.getLedger().getBalance(patient)).append('\n');
+            }
+        });
+        return text.toString();
+    }
+
+    private static void append(StringBuilder text, Iterable<Appointment> view) {
+        for (Appointment appointment : view) {
+            text.append(appointment).append('\n');
+        }
+    }
+
+    private void book(SchedulingCore core) {
+        Doctor patel = (Doctor) core.getCatalog().get(0);
+        core.bookOffice(date, Timeslot.ofSlot(1), john, patel);
+        core.bookImaging(date, Timeslot.ofSlot(2), jane, Radiology.XRAY);
+        core.bookImaging(date, Timeslot.ofSlot(2), john, Radiology.XRAY);
+    }
+
+    @Test
+    public void testSnapshotAndTailAreLoaded() throws IOException {
+        SchedulingCore core = core();
+        core.openJournal(file);
+        book(core);
+        core.snapshot();
+        core.cancel(date, Timeslot.ofSlot(1), john);
+        core.bookOffice(date, Timeslot.ofSlot(3), bob, (Doctor) core.getCatalog().get(0));
+        core.closeJournal();
+        assertTrue(Files.exists(snapshot));
+
+        SchedulingCore loaded = core();
+        assertEquals(3, loaded.openJournal(file));
+        assertEquals(listing(core), listing(loaded));
+
+        // The rotation continues where it was
+        Appointment expected = core.bookImaging(date, Timeslot.ofSlot(4), bob, Radiology.XRAY).appointment();
+        Appointment actual = loaded.bookImaging(date, Timeslot.ofSlot(4), bob, Radiology.XRAY).appointment();
+        assertEquals(expected.getProvider(), actual.getProvider());
+        loaded.closeJournal();
+    }
+
+    @Test
+    public void testTailChangesTheAppointmentItRecorded() throws IOException {
+        SchedulingCore core = largeCore();
+        core.setSnapshotInterval(4); // Taken after the bookings; the cancel and the reschedule stay in the journal
+        core.openJournal(file);
+        Doctor smith = (Doctor) core.getCatalog().get(0);
+        Doctor adams = (Doctor) core.getCatalog().get(1);
+        Profile older = new Profile("Sam", "Lee", new Date(2, 2, 1980));
+        Profile younger = new Profile("Sam", "Lee", new Date(1, 1, 1990));
+        core.bookOffice(date, Timeslot.ofSlot(1), older, smith);
+        core.bookOffice(date, Timeslot.ofSlot(1), younger, adams); // The snapshot lists ADAMS first
+        core.bookOffice(date, Timeslot.ofSlot(4), older, smith);
+        core.bookOffice(date, Timeslot.ofSlot(4), younger, adams);
+        core.cancel(date, Timeslot.ofSlot(1), younger); // Matched by name: the first booking is canceled
+        core.reschedule(date, Timeslot.ofSlot(4), younger, Timeslot.ofSlot(6));
+        core.closeJournal();
+        assertTrue(Files.exists(snapshot));
+
+        SchedulingCore loaded = largeCore();
+        assertEquals(3, loaded.openJournal(file));
+        assertEquals(listing(core), listing(loaded));
+    }
+
+    @Test
+    public void testEveryViewIsRebuilt() throws IOException {
+        SchedulingCore core = largeCore();
+        core.openJournal(file);
+        Random random = new Random(23);
+        Radiology[] rooms = Radiology.values();
+        for (int i = 0; i < 3000; i++) {
+            Date day = new Date(11, 4 + random.nextInt(4), 2024);
+            Timeslot timeslot = Timeslot.ofSlot(1 + random.nextInt(12));
+            // Few names, so patients share appointments at the same county, date and time
+            Profile profile = new Profile("P" + random.nextInt(20), random.nextBoolean() ? "Lee" : "LEE", new Date(1, 1, 1990));
+            if (random.nextInt(3) == 0) {
+                core.bookImaging(day, timeslot, profile, rooms[random.nextInt(rooms.length)]);
+            } else {
+                core.bookOffice(day, timeslot, profile, (Doctor) core.getCatalog().get(random.nextInt(12)));
+            }
+        }
+        core.snapshot();
+        core.closeJournal();
+
+        SchedulingCore loaded = largeCore();
+        assertTrue(loaded.openJournal(file) > 500);
+        assertEquals(listing(core), listing(loaded));
+        loaded.closeJournal();
+    }
+
+    @Test
+    public void testJournalIsEmptiedPeriodically() throws IOException {
+        SchedulingCore core = core();
+        core.setSnapshotInterval(2);
+        core.openJournal(file);
+        book(core);
+        core.closeJournal();
+        assertTrue(Files.exists(snapshot));
+
+        SchedulingCore loaded = core();
+        assertEquals(3, loaded.openJournal(file));
+        assertEquals(listing(core), listing(loaded));
+        loaded.closeJournal();
+    }
+
+    @Test
+    public void testJournalOlderThanTheSnapshotIsIgnored() throws IOException {
+        SchedulingCore core = core();
+        core.openJournal(file);
+        book(core);
+        core.syncJournal();
+        Path beforeSnapshot = directory.resolve("copy");
+        Files.copy(file, beforeSnapshot);
+        core.snapshot();
+        core.closeJournal();
+        // A crash after the snapshot was written but before the journal was emptied
+        Files.move(beforeSnapshot, file, StandardCopyOption.REPLACE_EXISTING);
+
+        SchedulingCore loaded = core();
+        assertEquals(3, loaded.openJournal(file)); // Not 3 more from the journal
+        assertEquals(listing(core), listing(loaded));
+        loaded.closeJournal();
+    }
+
+    @Test
+    public void testDamagedSnapshotIsRefused() throws IOException {
+        SchedulingCore core = core();
+        core.openJournal(file);
+        book(core);
+        core.snapshot();
+        core.closeJournal();
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7F}), 40);
+        }
+
+        SchedulingCore loaded = core();
+        try {
+            loaded.openJournal(file);
+            fail("a damaged snapshot was loaded");
+        } catch (IOException e) {
+            assertEquals(0, size(loaded)); // Nothing half loaded
+        }
+    }
+
+    @Test
+    public void testAnotherProviderListOfTheSameSizeIsRefused() throws IOException {
+        SchedulingCore core = core();
+        core.openJournal(file);
+        book(core);
+        core.snapshot();
+        core.closeJournal();
+
+        SchedulingCore loaded = core("02"); // Same count, but the doctor has another NPI
+        try {
+            loaded.openJournal(file);
+            fail("a snapshot of another provider list was loaded");
+        } catch (IOException e) {
+            assertEquals("the snapshot was written for another provider list", e.getMessage());
+            assertEquals(0, size(loaded));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testMissingSnapshotIsRefused() throws IOException {
+        SchedulingCore core = core();
+        core.openJournal(file);
+        book(core);
+        core.snapshot();
+        core.bookOffice(date, Timeslot.ofSlot(5), bob, (Doctor) core.getCatalog().get(0));
+        core.closeJournal();
+        Files.delete(snapshot);
+
+        core().openJournal(file); // The journal only holds the changes after the snapshot
+    }
+
+    private static int size(SchedulingCore core) {
+        int[] size = new int[1];
+        core.read(store -> size[0] = store.size());
+        return size[0];
+    }
+}
@@ -0,0 +1,188 @@
+package model;
+import util.CircleList;
+import util.Date;
+import util.HashMap;
+
+/**
+ * The TechnicianScheduler class finds the next available technician in the rotation for an imaging
+ * appointment without checking the technicians one by one.
+ *
+ * Technicians are numbered by their position in the rotation list, and sets of technicians are kept
+ * as bitsets of 64 positions per word:
+ * - for each date and timeslot, the technicians that are already booked,
+ * - for each location, the technicians who work there (built once).
+ * A technician can take an appointment if they are free and the imaging room at their location is free,
+ * so the candidates are the locations whose room is free, minus the booked technicians: a few word
+ * operations per 64 technicians. The first candidate at or after the rotation's current index (wrapping
+ * around) is chosen, which is the technician repeated calls to CircleList.getNext() would reach first.
+ * The rotation then moves past the chosen technician, and stays where it was when no one is available,
+ * as it did after a full turn of getNext().
+ *
+ * The AppointmentStore books and releases technicians as imaging appointments are added and removed.
+ *
+ * @author Gursimar Singh
+ */
+public class TechnicianScheduler {
+    private static final int SLOTS = Timeslot.SLOTS.length;
+    private static final Location[] LOCATIONS = Location.values();
+
+    private final CircleList<Technician> rotation;
+    private final RoomOccupancy rooms;
+    private final int[] positionById;      // rotation position of each technician, by provider id; -1 for doctors
+    private final int words;               // bitset words per timeslot
+    private final long[][] locationMasks;  // technicians working at each location, by Location ordinal
+    private final long[] candidates;       // reused by next()
+    private final HashMap<Date, long[]> booked; // booked technicians, SLOTS bitsets per date
+
+    /**
+     * Creates a scheduler for the technicians of a rotation.
+     *
+     * @param rotation      The rotation list; its technicians must not change afterwards.
+     * @param providerCount The number of providers in the catalog.
+     * @param rooms         The occupancy of the imaging rooms.
+     */
+    TechnicianScheduler(CircleList<Technician> rotation, int providerCount, RoomOccupancy rooms) {
+        this.rotation = rotation;
+        this.rooms = rooms;
+        this.positionById = new int[providerCount];
+        this.words = (rotation.size() + 63) >>> 6;
+        this.locationMasks = new long[LOCATIONS.length][words];
+        this.candidates = new long[words];
+        this.booked = new HashMap<>();
+
+        for (int id = 0; id < providerCount; id++) {
+            positionById[id] = -1;
+        }
+        for (int position = 0; position < rotation.size(); position++) {
+            Technician technician = rotation.get(position);
+            positionById[technician.getId()] = position;
+            locationMasks[technician.getLocation().ordinal()][position >>> 6] |= 1L << position;
+        }
+    }
+
+    /**
+     * Finds the next technician in the rotation who is free, at a location where the room is free,
+     * and moves the rotation past them.
+     *
+     * @param date     The date of the appointment.
+     * @param timeslot The timeslot of the appointment.
+     * @param room     The imaging service.
+     * @return The technician, or null if none is available (the rotation is then unchanged).
+     */
+    public Technician next(Date date, Timeslot timeslot, Radiology room) {
+        if (rotation.size() == 0) {
+            return null;
+        }
+        for (int w = 0; w < words; w++) {
+            candidates[w] = 0;
+        }
+        for (Location location : LOCATIONS) {
+            if (rooms.isAvailable(location, room, date, timeslot)) {
+                long[] mask = locationMasks[location.ordinal()];
+                for (int w = 0; w < words; w++) {
+                    candidates[w] |= mask[w];
+                }
+            }
+        }
+        long[] bookedSets = booked.get(date);
+        if (bookedSets != null) {
+            int offset = timeslot.getOrdinal() * words;
+            for (int w = 0; w < words; w++) {
+                candidates[w] &= ~bookedSets[offset + w];
+            }
+        }
+
+        int start = rotation.getCurrentIndex();
+        int position = nextCandidate(start, words);
+        if (position < 0) {
+            position = nextCandidate(0, (start >>> 6) + 1); // Wrap around to the front of the rotation
+        }
+        if (position < 0) {
+            return null;
+        }
+        rotation.setCurrentIndex((position + 1) % rotation.size());
+        return rotation.get(position);
+    }
+
+    /**
+     * Returns the index of the technician the rotation reaches next.
+     *
+     * @return The rotation index.
+     */
+    int getRotationIndex() {
+        return rotation.getCurrentIndex();
+    }
+
+    /**
+     * Moves the rotation to an index, as when a journal is replayed.
+     *
+     * @param index The rotation index.
+     */
+    void setRotationIndex(int index) {
+        rotation.setCurrentIndex(index);
+    }
+
+    /**
+     * Marks a technician as booked at a date and timeslot.
+     *
+     * @param technician The technician.
+     * @param date       The date of the appointment.
+     * @param timeslot   The timeslot of the appointment.
+     */
+    void book(Technician technician, Date date, Timeslot timeslot) {
+        int position = positionById[technician.getId()];
+        if (position < 0) {
+            return; // Not in the rotation
+        }
+        long[] bookedSets = booked.get(date);
+        if (bookedSets == null) {
+            bookedSets = new long[SLOTS * words];
+            booked.put(date, bookedSets);
+        }
+        bookedSets[timeslot.getOrdinal() * words + (position >>> 6)] |= 1L << position;
+    }
+
+    /**
+     * Marks a technician as free again at a date and timeslot.
+     *
+     * @param technician The technician.
+     * @param date       The date of the appointment.
+     * @param timeslot   The timeslot of the appointment.
+     */
+    void release(Technician technician, Date date, Timeslot timeslot) {
+        int position = positionById[technician.getId()];
+        long[] bookedSets = booked.get(date);
+        if (position >= 0 && bookedSets != null) {
+            bookedSets[timeslot.getOrdinal() * words + (position >>> 6)] &= ~(1L << position);
+        }
+    }
+
+    /**
+     * Frees every technician. The rotation keeps its place.
+     */
+    void clear() {
+        booked.clear();
+    }
+
+    /**
+     * Returns the first candidate at or after a position, looking no further than a number of words.
+     *
+     * @return The position of the candidate, or -1 if there is none.
+     */
+    private int nextCandidate(int from, int wordLimit) {
+        int w = from >>> 6;
+        if (w >= wordLimit) {
+            return -1;
+        }
+        long word = candidates[w] & (-1L << from); // Drop the positions before from
+        while (true) {
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++w >= wordLimit) {
+                return -1;
+            }
+            word = candidates[w];
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package model;
+
+import org.junit.Test;
+import util.CircleList;
+import util.Date;
+import util.List;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class TechnicianSchedulerTest {
+    private final Date date = new Date(11, 4, 2024);
+
+    private static ProviderCatalog catalog(int technicians) {
+        List<Provider> providers = new List<>();
+        providers.add(new Doctor(new Profile("ANDREW", "PATEL", new Date(1, 21, 1989)),
+                Location.BRIDGEWATER, Specialty.FAMILY, "01"));
+        Location[] locations = Location.values();
+        for (int i = 0; i < technicians; i++) {
+            providers.add(new Technician(new Profile("TECH" + i, "SMITH", new Date(1, 1, 1980)),
+                    locations[i % locations.length], 100 + i));
+        }
+        return new ProviderCatalog(providers);
+    }
+
+    private static CircleList<Technician> rotation(ProviderCatalog catalog) {
+        CircleList<Technician> rotation = new CircleList<>();
+        rotation.addAll(catalog.getTechnicians());
+        return rotation;
+    }
+
+    @Test
+    public void testRotationMovesPastTheChosenTechnician() {
+        ProviderCatalog catalog = catalog(3);
+        CircleList<Technician> rotation = rotation(catalog);
+        AppointmentStore store = new AppointmentStore(catalog, rotation);
+        TechnicianScheduler scheduler = store.getTechnicianScheduler();
+        Patient patient = new PatientRegistry().register(new Profile("John", "Doe", new Date(12, 13, 1989)));
+
+        Technician first = scheduler.next(date, Timeslot.ofSlot(1), Radiology.XRAY);
+        assertSame(rotation.get(0), first);
+        assertEquals(1, rotation.getCurrentIndex());
+        store.add(new Imaging(date, Timeslot.ofSlot(1), patient, first, Radiology.XRAY));
+
+        assertSame(rotation.get(1), scheduler.next(date, Timeslot.ofSlot(1), Radiology.XRAY));
+        assertSame(rotation.get(2), scheduler.next(date, Timeslot.ofSlot(1), Radiology.XRAY));
+        assertSame(rotation.get(1), scheduler.next(date, Timeslot.ofSlot(1), Radiology.XRAY)); // Wraps past the booked one
+        assertEquals(2, rotation.getCurrentIndex());
+    }
+
+    @Test
+    public void testNoTechnicianLeavesTheRotationUnchanged() {
+        ProviderCatalog catalog = catalog(2);
+        CircleList<Technician> rotation = rotation(catalog);
+        AppointmentStore store = new AppointmentStore(catalog, rotation);
+        PatientRegistry registry = new PatientRegistry();
+        for (int i = 0; i < 2; i++) {
+            Patient patient = registry.register(new Profile("P" + i, "Doe", new Date(12, 13, 1989)));
+            store.add(new Imaging(date, Timeslot.ofSlot(5), patient, rotation.get(i), Radiology.CATSCAN));
+        }
+        rotation.setCurrentIndex(1);
+        assertNull(store.getTechnicianScheduler().next(date, Timeslot.ofSlot(5), Radiology.ULTRASOUND));
+        assertEquals(1, rotation.getCurrentIndex());
+    }
+
+    @Test
+    public void testMatchesCheckingEachTechnicianInTurn() {
+        ProviderCatalog catalog = catalog(150); // More than two bitset words
+        CircleList<Technician> rotation = rotation(catalog);
+        CircleList<Technician> expectedRotation = rotation(catalog);
+        AppointmentStore store = new AppointmentStore(catalog, rotation);
+        TechnicianScheduler scheduler = store.getTechnicianScheduler();
+        PatientRegistry registry = new PatientRegistry();
+        List<Imaging> booked = new List<>();
+        Random random = new Random(42);
+        Radiology[] rooms = Radiology.values();
+
+        for (int i = 0; i < 5000; i++) {
+            if (!booked.isEmpty() && random.nextInt(4) == 0) { // Cancel an appointment now and then
+                store.remove(booked.removeAt(random.nextInt(booked.size())));
+                continue;
+            }
+            Date day = new Date(11, 4 + random.nextInt(3), 2024);
+            Timeslot timeslot = Timeslot.ofSlot(1 + random.nextInt(Timeslot.SLOTS.length));
+            Radiology room = rooms[random.nextInt(rooms.length)];
+
+            Technician expected = null;
+            for (int turn = 0; turn < expectedRotation.size(); turn++) {
+                Technician tech = expectedRotation.getNext();
+                if (!store.isProviderBooked(tech, day, timeslot)
+                        && !store.isRoomBooked(tech.getLocation(), room, day, timeslot)) {
+                    expected = tech;
+                    break;
+                }
+            }
+
+            Technician actual = scheduler.next(day, timeslot, room);
+            assertSame(expected, actual);
+            assertEquals(expectedRotation.getCurrentIndex(), rotation.getCurrentIndex());
+            if (actual != null) {
+                Patient patient = registry.register(new Profile("P" + i, "Doe", new Date(12, 13, 1989)));
+                Imaging imaging = new Imaging(day, timeslot, patient, actual, room);
+                store.add(imaging);
+                booked.add(imaging);
+            }
+        }
+    }
+}
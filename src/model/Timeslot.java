@@ -4,6 +4,11 @@ package model;
  * This class provides methods for comparing timeslots, retrieving their numeric representation,
  * and converting them to a readable string format (e.g., "9:00 AM").
  *  It includes predefined static instances for all available appointment times.
+ *
+ * The instances in SLOTS are the only Timeslot objects that exist: they are obtained through
+ * valueOf(hour, minute) or ofSlot(slot), so two timeslots are equal only if they are the same object.
+ * Each timeslot stores its position in SLOTS, which makes getSlot() a field read and lets other classes
+ * use a timeslot as an array or bit index. The display text is built once, when the slot is created.
  * @author GursimarSingh
  */
  public class Timeslot implements Comparable<Timeslot> {
@@ -18,39 +23,79 @@ package model;
     // Instance variables
     private final int hour;
     private final int minute;
+    private final int ordinal; // position in SLOTS
+    private final String text;
 
     /**
-     * set minute and hour of timeslot object
+     * set minute, hour and position of timeslot object
      *
      * @param hour The hour of the timeslot.
      * @param minute The minute of the timeslot.
+     * @param ordinal The position of the timeslot in SLOTS.
      */
-    public Timeslot(int hour, int minute) {
+    private Timeslot(int hour, int minute, int ordinal) {
         this.hour = hour;
         this.minute = minute;
+        this.ordinal = ordinal;
+        this.text = format(hour, minute);
     }
 
     /**
-     * checks if the hours and minutes are the same between two timeslot objects
+     * Returns the timeslot that starts at the given time.
+     *
+     * @param hour The hour of the timeslot, in 24-hour time.
+     * @param minute The minute of the timeslot.
+     * @return The timeslot starting at hour:minute.
+     * @throws IllegalArgumentException if no timeslot starts at that time.
+     */
+    public static Timeslot valueOf(int hour, int minute) {
+        int index = sessionIndex(hour, minute, STARTING_APPOINTMENT_HOUR_MORNING);
+        if (index < 0) {
+            index = sessionIndex(hour, minute, STARTING_APPOINTMENT_HOUR_AFTERNOON);
+            if (index >= 0) {
+                index += NUMBER_OF_SESSION_FOR_SLOT;
+            }
+        }
+        if (index < 0) {
+            throw new IllegalArgumentException("No timeslot starts at " + hour + ":" + minute);
+        }
+        return SLOTS[index];
+    }
+
+    /**
+     * Returns the timeslot with the given slot number.
+     *
+     * @param slot The slot number, from 1 to 12.
+     * @return The timeslot with that number.
+     * @throws IllegalArgumentException if the slot number is out of range.
+     */
+    public static Timeslot ofSlot(int slot) {
+        if (slot < 1 || slot > SLOTS.length) {
+            throw new IllegalArgumentException("Invalid slot number: " + slot);
+        }
+        return SLOTS[slot - 1];
+    }
+
+    /**
+     * checks if two timeslot objects are the same timeslot
+     * Since every timeslot is one of the SLOTS, equal timeslots are the same object.
      *
      * @param obj The object to compare with this Timeslot.
      * @return true if the timeslots are equal, false otherwise.
      */
     @Override
     public boolean equals(Object obj){
-        //if the two timeslots are equal - then return true
-        if(this == obj){
-            return true;
-        }
-
-        if(obj == null || (getClass() != obj.getClass())){
-            return false;
-        }
-        //casting obj to a Timeslot object
-        Timeslot correct_timeslot = (Timeslot) obj;
+        return this == obj;
+    }
 
-        //compare the hour & minute values
-        return ((hour == correct_timeslot.hour) && (minute == correct_timeslot.minute));
+    /**
+     * returns a hash code consistent with equals
+     *
+     * @return the hash code of the timeslot
+     */
+    @Override
+    public int hashCode() {
+        return ordinal;
     }
 
 
@@ -63,12 +108,7 @@ package model;
      */
     @Override
     public int compareTo(Timeslot otherTime){
-
-        if(this.hour != otherTime.hour){
-            return (this.hour - otherTime.hour);
-        }
-
-        return this.minute - otherTime.minute;
+        return this.ordinal - otherTime.ordinal; // SLOTS are in order of time
     }
 
     /**
@@ -80,6 +120,36 @@ package model;
      */
     @Override
     public String toString(){
+        return text;
+    }
+
+    /**
+     * Retrieves the numeric representation of this timeslot.
+     * The first morning slot (9:00 AM) corresponds to slot 1, while the last afternoon slot (4:30 PM) corresponds to slot 12.
+     *
+     * @return the numeric value of the timeslot (ranging from 1 to 12)
+     */
+    public int getSlot() {
+        return ordinal + 1;
+    }
+
+    /**
+     * Retrieves the position of this timeslot in SLOTS.
+     *
+     * @return the index of the timeslot (ranging from 0 to 11)
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * builds the display text of a time
+     *
+     * @param hour The hour, in 24-hour time.
+     * @param minute The minute.
+     * @return The time in 12-hour format, e.g. "2:30 PM".
+     */
+    private static String format(int hour, int minute) {
         //defining time period (morning-AM/afternoon-PM) - if hour is < 12 --> AM, if hour > 12 --> PM
         String pd = (hour < 12) ? "AM"  : "PM";
 
@@ -91,20 +161,21 @@ package model;
         return String.format("%d:%02d %s", hrFormat, minute, pd);
     }
 
-
     /**
-     * Retrieves the numeric representation of this timeslot.
-     * The first morning slot (9:00 AM) corresponds to slot 1, while the last afternoon slot (4:30 PM) corresponds to slot 12.
+     * finds which session of a morning or afternoon starts at a time
      *
-     * @return the numeric value of the timeslot (ranging from 1 to 12)
+     * @param hour The hour, in 24-hour time.
+     * @param minute The minute.
+     * @param startingHour The hour the first session of the morning or afternoon starts.
+     * @return The index of the session (0 to 5), or -1 if no session of that period starts at that time.
      */
-    public int getSlot() {
-        for (int i = 0; i < SLOTS.length; i++) {
-            if (this.equals(SLOTS[i])) {
-                return i + 1;
-            }
+    private static int sessionIndex(int hour, int minute, int startingHour) {
+        int minutes = (hour - startingHour) * 60 + minute;
+        if (minute < 0 || minute >= 60 || minutes < 0 || minutes % SESSION_LENGTH != 0) {
+            return -1;
         }
-        return -1;  // Invalid slot
+        int index = minutes / SESSION_LENGTH;
+        return index < NUMBER_OF_SESSION_FOR_SLOT ? index : -1;
     }
 
     /**
@@ -121,7 +192,7 @@ package model;
         int hour = STARTING_APPOINTMENT_HOUR_MORNING;
         int minute = 0;
         for (int i = 0; i < NUMBER_OF_SESSION_FOR_SLOT; i++) {
-            timeslots[i] = new Timeslot(hour, minute);
+            timeslots[i] = new Timeslot(hour, minute, i);
             minute += SESSION_LENGTH;
             if (minute == 60) {
                 minute = 0;
@@ -132,7 +203,7 @@ package model;
         hour = STARTING_APPOINTMENT_HOUR_AFTERNOON;
         minute = 0;
         for (int i = NUMBER_OF_SESSION_FOR_SLOT; i < NUMBER_OF_SESSION_FOR_SLOT * 2; i++) {
-            timeslots[i] = new Timeslot(hour, minute);
+            timeslots[i] = new Timeslot(hour, minute, i);
             minute += SESSION_LENGTH;
             if (minute == 60) {
                 minute = 0;
@@ -0,0 +1,45 @@
+package model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TimeslotTest {
+
+    @Test
+    public void testValueOfReturnsTheCanonicalSlot() {
+        assertSame(Timeslot.SLOTS[0], Timeslot.valueOf(9, 0));
+        assertSame(Timeslot.SLOTS[5], Timeslot.valueOf(11, 30));
+        assertSame(Timeslot.SLOTS[6], Timeslot.valueOf(14, 0));
+        assertSame(Timeslot.SLOTS[11], Timeslot.valueOf(16, 30));
+        assertSame(Timeslot.ofSlot(4), Timeslot.valueOf(10, 30));
+    }
+
+    @Test
+    public void testSlotNumbersAndText() {
+        for (int slot = 1; slot <= Timeslot.SLOTS.length; slot++) {
+            assertEquals(slot, Timeslot.ofSlot(slot).getSlot());
+            assertEquals(slot - 1, Timeslot.ofSlot(slot).getOrdinal());
+        }
+        assertEquals("9:00 AM", Timeslot.ofSlot(1).toString());
+        assertEquals("2:30 PM", Timeslot.ofSlot(8).toString());
+        assertTrue(Timeslot.ofSlot(6).compareTo(Timeslot.ofSlot(7)) < 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValueOfRejectsLunchTime() {
+        Timeslot.valueOf(12, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValueOfRejectsOddMinutes() {
+        Timeslot.valueOf(9, 15);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfSlotRejectsOutOfRange() {
+        Timeslot.ofSlot(13);
+    }
+}
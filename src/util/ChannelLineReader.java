@@ -0,0 +1,130 @@
+package util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The ChannelLineReader class reads lines of text from a channel through one large byte buffer.
+ * Bytes are decoded a buffer at a time straight into a char buffer, and each line is collected
+ * in a StringBuilder that is reused for every line, so reading a big command file costs one
+ * channel read per buffer instead of one call per line.
+ *
+ * Lines end with "\n", "\r\n" or "\r", as they do for Scanner.nextLine(). A last line without
+ * a line ending is still returned, and malformed bytes are replaced instead of failing the read.
+ *
+ * @author Gursimar Singh
+ */
+public class ChannelLineReader implements Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20; // 1 MiB
+
+    private final ReadableByteChannel channel;
+    private final CharsetDecoder decoder;
+    private final ByteBuffer bytes;
+    private final CharBuffer chars;
+    private final StringBuilder line;
+    private boolean endOfInput;   // The channel has no more bytes
+    private boolean decoded;      // Every byte has been decoded and the decoder flushed
+    private boolean skipLineFeed; // The last line ended with '\r', so a '\n' right after it is part of that ending
+
+    /**
+     * Opens a file for reading with the default charset and buffer size.
+     *
+     * @param file The file to read.
+     * @return A reader for the file.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static ChannelLineReader open(Path file) throws IOException {
+        return new ChannelLineReader(FileChannel.open(file, StandardOpenOption.READ), Charset.defaultCharset(), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a reader over a channel.
+     *
+     * @param channel    The channel to read from; closing the reader closes it.
+     * @param charset    The charset of the text.
+     * @param bufferSize The size in bytes of the read buffer.
+     */
+    public ChannelLineReader(ReadableByteChannel channel, Charset charset, int bufferSize) {
+        this.channel = channel;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes = ByteBuffer.allocateDirect(bufferSize);
+        this.chars = CharBuffer.allocate(bufferSize);
+        this.chars.flip(); // Start with nothing to read
+        this.line = new StringBuilder();
+    }
+
+    /**
+     * Reads the next line, without its line ending.
+     *
+     * @return The line, or null if there are no more lines.
+     * @throws IOException if the channel cannot be read.
+     */
+    public String readLine() throws IOException {
+        line.setLength(0);
+        while (true) {
+            while (chars.hasRemaining()) {
+                char c = chars.get();
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (c == '\n') {
+                        continue;
+                    }
+                }
+                if (c == '\n') {
+                    return line.toString();
+                }
+                if (c == '\r') {
+                    skipLineFeed = true;
+                    return line.toString();
+                }
+                line.append(c);
+            }
+            if (!fill()) {
+                return line.length() > 0 ? line.toString() : null;
+            }
+        }
+    }
+
+    /**
+     * Closes the channel.
+     *
+     * @throws IOException if the channel cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Decodes more of the input into the char buffer.
+     *
+     * @return true if there are new chars to read, false at the end of the input.
+     */
+    private boolean fill() throws IOException {
+        chars.clear();
+        while (chars.position() == 0 && !decoded) {
+            if (!endOfInput && channel.read(bytes) < 0) {
+                endOfInput = true;
+            }
+            bytes.flip();
+            boolean underflow = decoder.decode(bytes, chars, endOfInput).isUnderflow();
+            bytes.compact();
+            if (endOfInput && underflow && decoder.flush(chars).isUnderflow()) {
+                decoded = true;
+            }
+        }
+        chars.flip();
+        return chars.hasRemaining();
+    }
+}
@@ -0,0 +1,43 @@
+package util;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ChannelLineReaderTest {
+
+    private static ChannelLineReader reader(String text, int bufferSize) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return new ChannelLineReader(Channels.newChannel(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8, bufferSize);
+    }
+
+    @Test
+    public void testLineEndings() throws IOException {
+        ChannelLineReader reader = reader("PA\nD,1/2/2025\r\nPP\r\rQ", 1024);
+        assertEquals("PA", reader.readLine());
+        assertEquals("D,1/2/2025", reader.readLine());
+        assertEquals("PP", reader.readLine());
+        assertEquals("", reader.readLine());
+        assertEquals("Q", reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    public void testLinesLongerThanTheBuffer() throws IOException {
+        ChannelLineReader reader = reader("T,11/3/2026,3,Jane,Roe,1/1/1990,xray\r\nZo\u00eb,\u0141\n", 4);
+        assertEquals("T,11/3/2026,3,Jane,Roe,1/1/1990,xray", reader.readLine());
+        assertEquals("Zo\u00eb,\u0141", reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    public void testEmptyInput() throws IOException {
+        assertNull(reader("", 16).readLine());
+    }
+}
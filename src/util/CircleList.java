@@ -29,5 +29,16 @@ public class CircleList<E> extends List<E> {
         return nextElement;
     }
 
+    // Gets the index of the element getNext() returns next
+    public int getCurrentIndex() {
+        return currentIndex;
+    }
 
+    // Moves the rotation so that getNext() returns the element at the index next
+    public void setCurrentIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index out of bounds");
+        }
+        currentIndex = index;
+    }
 }
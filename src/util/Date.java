@@ -1,6 +1,7 @@
 //@author AparnaSrinivas @author GursimarSingh
 package util;
 import java.util.Calendar;
+import java.util.TimeZone;
 
 /**
  * The Date class represents a specific date consisting of year, month, and day.
@@ -10,10 +11,25 @@ import java.util.Calendar;
  *
  * Constants are defined for the leap year calculation and the number of days in specific months.
  *
+ * Each Date also stores its epoch day (the number of days since January 1, 1970), computed once
+ * in the constructor. Comparing, hashing, the day of the week and the checks against today's date
+ * are plain integer arithmetic on that value, so no Calendar object is created for them.
+ * Today's epoch day is cached until the next local midnight.
+ *
  * @author GursimarSingh
  */
 public class Date implements Comparable<Date> {
-    private int year, month, day;
+    private final int year, month, day;
+    private final int epochDay;
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+    private static final int DAYS_PER_400_YEARS = 146097;
+    private static final int DAYS_FROM_YEAR_0_TO_1970 = 719468; // counted from March 1 of year 0
+    private static final int THURSDAY = 4; // January 1, 1970 was a Thursday; Sunday is 0
+    private static final int SATURDAY = 6;
+    private static final int SUNDAY = 0;
+    private static final int HORIZON_MONTHS = 6;
+    private static final TimeZone ZONE = TimeZone.getDefault();
+    private static volatile Today today;
     public static final int QUADRENNIAL = 4;
     public static final int CENTENNIAL = 100;
     public static final int QUATERCENTENNIAL = 400;
@@ -34,9 +50,47 @@ public class Date implements Comparable<Date> {
         this.year = year;
         this.month = month -1;
         this.day = day;
+        this.epochDay = toEpochDay(year, this.month, day);
     }
+
     // Getters
 
+    /**
+     * Returns the year of the date.
+     *
+     * @return The year.
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Returns the month of the date.
+     *
+     * @return The month (1-12).
+     */
+    public int getMonth() {
+        return month + 1;
+    }
+
+    /**
+     * Returns the day of the month of the date.
+     *
+     * @return The day of the month.
+     */
+    public int getDay() {
+        return day;
+    }
+
+    /**
+     * Returns the number of days between January 1, 1970 and this date.
+     *
+     * @return The epoch day of the date.
+     */
+    public int getEpochDay() {
+        return epochDay;
+    }
+
     //checks if date it valid on calendar
     /**
      * Checks if the date is a valid calendar date.
@@ -67,7 +121,7 @@ public class Date implements Comparable<Date> {
      * @param year to check.
      * @return true if the year is a leap year, false otherwise.
      */
-    private boolean isLeapYear(int year){
+    private static boolean isLeapYear(int year){
         if (year % QUADRENNIAL == 0) {
             if (year % CENTENNIAL == 0) {
                 return year % QUATERCENTENNIAL == 0;
@@ -85,7 +139,7 @@ public class Date implements Comparable<Date> {
      * @param month to check.
      * @return number of days in the month.
      */
-    private int getDaysInMonth(int year, int month) {
+    private static int getDaysInMonth(int year, int month) {
         // Handle the days for February (leap year consideration)
         if (month == Calendar.FEBRUARY) {
             return isLeapYear(year) ? feb_leap :feb;
@@ -116,7 +170,7 @@ public class Date implements Comparable<Date> {
 
     /**
      * Checks if current date is equal to another date.
-     * Two Date objects are considered equal if they have the same year, month, and day.
+     * Two Date objects are considered equal if they fall on the same day.
      *
      * @param obj The object to compare to.
      * @return true if the dates are equal, false otherwise.
@@ -132,12 +186,22 @@ public class Date implements Comparable<Date> {
         }
 
         Date other = (Date) obj;
-        return this.year == other.year && this.month == other.month && this.day == other.day;
+        return this.epochDay == other.epochDay;
+    }
+
+    /**
+     * Returns a hash code for the date, consistent with equals().
+     *
+     * @return The hash code of the date.
+     */
+    @Override
+    public int hashCode() {
+        return epochDay;
     }
 
     /**
      * Compares current Date object to another Date object.
-     * Dates are compared first by year, then by month, then by day.
+     * Dates are compared by their epoch day.
      *
      * @param other other Date object to compare to.
      * @return a negative integer, zero, or a positive integer as this date is
@@ -145,25 +209,7 @@ public class Date implements Comparable<Date> {
      */
     @Override
     public int compareTo(Date other) {
-        if (this.year < other.year) {
-            return -1;
-        } else if (this.year > other.year) {
-            return 1;
-        }
-
-        if (this.month < other.month) {
-            return -1;
-        } else if (this.month > other.month) {
-            return 1;
-        }
-
-        if (this.day < other.day) {
-            return -1;
-        } else if (this.day > other.day) {
-            return 1;
-        }
-
-        return 0;
+        return Integer.compare(this.epochDay, other.epochDay);
     }
 
 
@@ -183,51 +229,139 @@ public class Date implements Comparable<Date> {
      * @return true if the date is today, false otherwise.
      */
     public boolean isToday() {
-        Calendar today = Calendar.getInstance();
-        return this.year == today.get(Calendar.YEAR) &&
-                this.month == today.get(Calendar.MONTH) &&
-                this.day == today.get(Calendar.DAY_OF_MONTH);
+        return epochDay == today().epochDay;
     }
 
+    /**
+     * Checks if the date is before today's date.
+     *
+     * @return true if the date is in the past, false otherwise.
+     */
     public boolean isInThePast() {
-        Calendar today = Calendar.getInstance();
-        int currentYear = today.get(Calendar.YEAR);
-        int currentMonth = today.get(Calendar.MONTH);  // January is 0
-        int currentDay = today.get(Calendar.DAY_OF_MONTH);
+        return epochDay < today().epochDay;
+    }
 
-        if (this.year < currentYear) {
-            return true;
-        }
-        if (this.year == currentYear) {
-            if (this.month < currentMonth) {
-                return true;
-            }
-            if (this.month == currentMonth) {
-                return this.day < currentDay;
-            }
-        }
-        return false;
+    /**
+     * Checks if the date is after today's date.
+     *
+     * @return true if the date is in the future, false otherwise.
+     */
+    public boolean isAfterToday() {
+        return epochDay > today().epochDay;
     }
 
+    /**
+     * Checks if the date falls on a Saturday or a Sunday.
+     *
+     * @return true if the date is on a weekend, false otherwise.
+     */
     public boolean Weekend() {
-        Calendar cal = Calendar.getInstance();
-        cal.set(this.year, this.month, this.day);
-
-        int dayOfWeek = cal.get(Calendar.DAY_OF_WEEK);
-        return (dayOfWeek == Calendar.SATURDAY || dayOfWeek == Calendar.SUNDAY);
+        int dayOfWeek = Math.floorMod(epochDay + THURSDAY, 7);
+        return dayOfWeek == SATURDAY || dayOfWeek == SUNDAY;
     }
 
+    /**
+     * Checks if the date is within the booking window that ends six months from today.
+     * When the month six months ahead is shorter than today's day of the month,
+     * the last day of that month ends the window, as Calendar.add does.
+     * The date is moved back one month before it is compared, rolling over like a lenient Calendar
+     * (March 31 becomes March 3, or March 2 in a leap year), as the check has always done, so
+     * dates up to about seven months ahead are accepted.
+     *
+     * @return true if the date, one month earlier, is on or before the six month horizon, false otherwise.
+     */
     public boolean WithinSixMonths() {
-        Calendar today = Calendar.getInstance(); // Get the current date
-        Calendar sixMonthsLater = Calendar.getInstance(); // Create a calendar for six months later
-        sixMonthsLater.add(Calendar.MONTH, 6); // Move the calendar 6 months ahead
+        return toEpochDay(year, month - 1, day) <= today().horizon;
+    }
 
-        Calendar dateToCheck = Calendar.getInstance(); // Create a calendar for the date to check
-        dateToCheck.set(this.year, this.month - 1, this.day); // Set the date (adjust month for 0-indexed)
+    /**
+     * Computes the last day of the window that starts on a given day, six months later.
+     *
+     * @param epochDay The epoch day the window starts on.
+     * @return The epoch day six months later, clamped to the end of that month.
+     */
+    static int horizon(int epochDay) {
+        return plusMonths(epochDay, HORIZON_MONTHS);
+    }
 
-        return dateToCheck.before(sixMonthsLater) || dateToCheck.equals(sixMonthsLater);
+    /**
+     * Computes the number of days between January 1, 1970 and a date.
+     * Months outside 0-11 roll over into the neighbouring years, and days outside the month
+     * roll over into the neighbouring months, the same way a lenient Calendar would.
+     *
+     * @param year  The year.
+     * @param month The month (0-indexed).
+     * @param day   The day of the month.
+     * @return The epoch day.
+     */
+    private static int toEpochDay(int year, int month, int day) {
+        year += Math.floorDiv(month, 12);
+        month = Math.floorMod(month, 12);
+        int y = month < Calendar.MARCH ? year - 1 : year; // Years start in March so leap days come last
+        int era = Math.floorDiv(y, QUATERCENTENNIAL);
+        int yearOfEra = y - era * QUATERCENTENNIAL;
+        int marchMonth = (month + 10) % 12;
+        int dayOfYear = (153 * marchMonth + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / QUADRENNIAL - yearOfEra / CENTENNIAL + dayOfYear;
+        return era * DAYS_PER_400_YEARS + dayOfEra - DAYS_FROM_YEAR_0_TO_1970;
     }
 
-}
+    /**
+     * Computes the epoch day that lies a number of months after another epoch day.
+     *
+     * @param epochDay The starting epoch day.
+     * @param months   The number of months to add.
+     * @return The epoch day of the same day of the month, clamped to the length of the target month.
+     */
+    private static int plusMonths(int epochDay, int months) {
+        int z = epochDay + DAYS_FROM_YEAR_0_TO_1970;
+        int era = Math.floorDiv(z, DAYS_PER_400_YEARS);
+        int dayOfEra = z - era * DAYS_PER_400_YEARS;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_PER_400_YEARS - 1)) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / QUADRENNIAL - yearOfEra / CENTENNIAL);
+        int marchMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * marchMonth + 2) / 5 + 1;
+        int month = marchMonth < 10 ? marchMonth + 2 : marchMonth - 10; // back to 0-indexed
+        int year = yearOfEra + era * QUATERCENTENNIAL + (month < Calendar.MARCH ? 1 : 0);
+
+        month += months;
+        year += Math.floorDiv(month, 12);
+        month = Math.floorMod(month, 12);
+        return toEpochDay(year, month, Math.min(day, getDaysInMonth(year, month)));
+    }
 
+    /**
+     * Returns today's date, computing it again only after the cached day has ended.
+     *
+     * @return Today's epoch day and six month horizon.
+     */
+    private static Today today() {
+        long now = System.currentTimeMillis();
+        Today current = today;
+        if (current == null || now < current.start || now >= current.end) {
+            current = new Today(now);
+            today = current;
+        }
+        return current;
+    }
 
+    /**
+     * Today's epoch day in the default time zone, with the instants at which it starts and ends.
+     */
+    private static final class Today {
+        private final int epochDay;
+        private final int horizon;
+        private final long start;
+        private final long end;
+
+        private Today(long now) {
+            int offset = ZONE.getOffset(now);
+            epochDay = (int) Math.floorDiv(now + offset, MILLIS_PER_DAY);
+            horizon = horizon(epochDay);
+            start = epochDay * MILLIS_PER_DAY - offset;
+            long nextMidnight = (epochDay + 1) * MILLIS_PER_DAY;
+            end = nextMidnight - ZONE.getOffset(nextMidnight - offset);
+        }
+    }
+
+}
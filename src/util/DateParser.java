@@ -0,0 +1,147 @@
+package util;
+
+/**
+ * The DateParser class reads dates written as MM/DD/YYYY directly from the characters of a
+ * command, without splitting the text into substrings or calling Integer.parseInt.
+ * A single call parses the date, checks it, and reports the outcome as a Result,
+ * while the parsed Date is kept in the parser until the next call.
+ *
+ * A parser keeps the result of its last call, so each ClinicManager uses its own parser.
+ *
+ * @author Gursimar Singh
+ */
+public class DateParser {
+    private static final int MAX_DIGITS = 9; // Enough for any real date, and cannot overflow an int
+
+    /**
+     * The outcome of parsing and checking a date.
+     */
+    public enum Result {
+        VALID,
+        INVALID,           // Not MM/DD/YYYY, or not a valid calendar date
+        TODAY_OR_BEFORE,   // An appointment date that is today or in the past
+        TODAY_OR_AFTER,    // A date of birth that is today or in the future
+        WEEKEND,           // An appointment date on a Saturday or Sunday
+        BEYOND_SIX_MONTHS  // An appointment date more than six months from today
+    }
+
+    private Date date;
+    private int month, day, year;
+
+    /**
+     * Returns the date read by the last call to one of the parse methods.
+     *
+     * @return The parsed date, or null if the text was not in MM/DD/YYYY format.
+     */
+    public Date getDate() {
+        return date;
+    }
+
+    /**
+     * Reads a date from the whole text without checking it against the calendar.
+     *
+     * @param text The text holding the date.
+     * @return The parsed date, or null if the text is not in MM/DD/YYYY format.
+     */
+    public Date parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Reads a date from text[start, end) without checking it against the calendar.
+     * Spaces around the date are ignored.
+     *
+     * @param text  The text holding the date.
+     * @param start The index of the first character of the date.
+     * @param end   The index after the last character of the date.
+     * @return The parsed date, or null if the text is not in MM/DD/YYYY format.
+     */
+    public Date parse(CharSequence text, int start, int end) {
+        date = readFields(text, start, end) ? new Date(month, day, year) : null;
+        return date;
+    }
+
+    /**
+     * Reads an appointment date and checks that it is a valid calendar date after today,
+     * on a weekday, and within six months from today, in that order.
+     *
+     * @param text  The text holding the date.
+     * @param start The index of the first character of the date.
+     * @param end   The index after the last character of the date.
+     * @return The first check the date fails, or VALID.
+     */
+    public Result parseAppointmentDate(CharSequence text, int start, int end) {
+        if (parse(text, start, end) == null || !date.isValid()) {
+            return Result.INVALID;
+        }
+        if (date.isToday() || date.isInThePast()) {
+            return Result.TODAY_OR_BEFORE;
+        }
+        if (date.Weekend()) {
+            return Result.WEEKEND;
+        }
+        if (!date.WithinSixMonths()) {
+            return Result.BEYOND_SIX_MONTHS;
+        }
+        return Result.VALID;
+    }
+
+    /**
+     * Reads a date of birth and checks that it is a valid calendar date before today.
+     *
+     * @param text  The text holding the date.
+     * @param start The index of the first character of the date.
+     * @param end   The index after the last character of the date.
+     * @return The first check the date fails, or VALID.
+     */
+    public Result parseBirthDate(CharSequence text, int start, int end) {
+        if (parse(text, start, end) == null || !date.isValid()) {
+            return Result.INVALID;
+        }
+        if (date.isToday() || date.isAfterToday()) {
+            return Result.TODAY_OR_AFTER;
+        }
+        return Result.VALID;
+    }
+
+    /**
+     * Reads the three numbers of MM/DD/YYYY into month, day and year in one pass.
+     *
+     * @return true if the text holds exactly three numbers separated by slashes, false otherwise.
+     */
+    private boolean readFields(CharSequence text, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+
+        int field = 0;
+        int value = 0;
+        int digits = 0;
+        for (int i = start; i <= end; i++) {
+            char c = i < end ? text.charAt(i) : '/'; // The end closes the last field
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_DIGITS) {
+                    return false;
+                }
+                value = value * 10 + (c - '0');
+            } else if (c == '/' && digits > 0) {
+                switch (field++) {
+                    case 0 -> month = value;
+                    case 1 -> day = value;
+                    case 2 -> year = value;
+                    default -> {
+                        return false; // More than three fields
+                    }
+                }
+                value = 0;
+                digits = 0;
+            } else {
+                return false;
+            }
+        }
+        return field == 3;
+    }
+}
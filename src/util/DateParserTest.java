@@ -0,0 +1,44 @@
+package util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DateParserTest {
+
+    @Test
+    public void testParseFields() {
+        DateParser parser = new DateParser();
+        assertEquals(new Date(10, 31, 2024), parser.parse("10/31/2024"));
+        assertEquals(new Date(1, 5, 1989), parser.parse(" 1/5/1989 "));
+        assertEquals(new Date(3, 7, 2025), parser.parse("D,3/7/2025,1", 2, 10));
+    }
+
+    @Test
+    public void testMalformedText() {
+        DateParser parser = new DateParser();
+        assertNull(parser.parse("10/31"));
+        assertNull(parser.parse("10/31/2024/1"));
+        assertNull(parser.parse("10//2024"));
+        assertNull(parser.parse("1o/31/2024"));
+        assertNull(parser.parse(""));
+    }
+
+    @Test
+    public void testInvalidCalendarDates() {
+        DateParser parser = new DateParser();
+        assertEquals(DateParser.Result.INVALID, parser.parseBirthDate("2/29/2023", 0, 9));
+        assertEquals(DateParser.Result.INVALID, parser.parseAppointmentDate("13/1/2024", 0, 9));
+        assertEquals(DateParser.Result.INVALID, parser.parseAppointmentDate("x", 0, 1));
+    }
+
+    @Test
+    public void testPastAndFutureDates() {
+        DateParser parser = new DateParser();
+        assertEquals(DateParser.Result.VALID, parser.parseBirthDate("12/13/1989", 0, 10));
+        assertEquals(DateParser.Result.TODAY_OR_AFTER, parser.parseBirthDate("1/1/3000", 0, 8));
+        assertEquals(DateParser.Result.TODAY_OR_BEFORE, parser.parseAppointmentDate("1/2/2020", 0, 8));
+        assertEquals(DateParser.Result.BEYOND_SIX_MONTHS, parser.parseAppointmentDate("1/2/3000", 0, 8));
+    }
+}
@@ -2,6 +2,8 @@ package util;
 
 import org.junit.Test;
 
+import java.time.LocalDate;
+
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -42,4 +44,51 @@ public class DateTest {
         util.Date date6 = new util.Date(12, 13, 2024); // Valid calendar date
         assertTrue( date6.isValid());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testWeekend() {
+        assertTrue(new util.Date(10, 19, 2024).Weekend()); // Saturday
+        assertTrue(new util.Date(10, 20, 2024).Weekend()); // Sunday
+        assertFalse(new util.Date(10, 21, 2024).Weekend()); // Monday
+        assertFalse(new util.Date(2, 29, 2000).Weekend()); // Tuesday
+    }
+
+    @Test
+    public void testCompareAcrossMonthsAndYears() {
+        assertTrue(new util.Date(12, 31, 2024).compareTo(new util.Date(1, 1, 2025)) < 0);
+        assertTrue(new util.Date(3, 1, 2024).compareTo(new util.Date(2, 29, 2024)) > 0);
+        assertTrue(new util.Date(1, 1, 1970).getEpochDay() == 0);
+    }
+
+    @Test
+    public void testEqualDatesHaveEqualHashCodes() {
+        util.Date first = new util.Date(7, 4, 2025);
+        util.Date second = new util.Date(7, 4, 2025);
+        assertTrue(first.equals(second));
+        assertTrue(first.hashCode() == second.hashCode());
+        assertFalse(first.equals(new util.Date(7, 5, 2025)));
+    }
+
+    @Test
+    public void testHorizonClampsToTheMonthEnd() {
+        assertTrue(util.Date.horizon(new util.Date(8, 31, 2024).getEpochDay()) == new util.Date(2, 28, 2025).getEpochDay());
+        assertTrue(util.Date.horizon(new util.Date(8, 31, 2023).getEpochDay()) == new util.Date(2, 29, 2024).getEpochDay());
+        assertTrue(util.Date.horizon(new util.Date(1, 15, 2024).getEpochDay()) == new util.Date(7, 15, 2024).getEpochDay());
+    }
+
+    @Test
+    public void testWithinSixMonthsBoundary() {
+        LocalDate horizon = LocalDate.now().plusMonths(6);
+        LocalDate monthAfter = horizon.withDayOfMonth(1).plusMonths(1);
+        // The date is moved back one month before it is compared, so the last day accepted lies a month past the horizon
+        util.Date lastAccepted = new util.Date(monthAfter.getMonthValue(), horizon.getDayOfMonth(), monthAfter.getYear());
+        util.Date firstRejected = new util.Date(monthAfter.getMonthValue(), horizon.getDayOfMonth() + 1, monthAfter.getYear());
+        assertTrue(lastAccepted.WithinSixMonths());
+        assertFalse(firstRejected.WithinSixMonths());
+
+        LocalDate pastHorizon = horizon.plusDays(1);
+        assertTrue(new util.Date(pastHorizon.getMonthValue(), pastHorizon.getDayOfMonth(), pastHorizon.getYear()).WithinSixMonths());
+        LocalDate eightMonths = LocalDate.now().plusMonths(8);
+        assertFalse(new util.Date(eightMonths.getMonthValue(), eightMonths.getDayOfMonth(), eightMonths.getYear()).WithinSixMonths());
+    }
+}
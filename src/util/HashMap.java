@@ -0,0 +1,198 @@
+package util;
+
+/**
+ * The HashMap class maps keys to values using a chained hash table.
+ * Keys are located through their hashCode() and equals() methods, so lookups,
+ * insertions and removals run in constant expected time. The table doubles in size
+ * whenever the number of entries passes three quarters of its capacity.
+ *
+ * @param <K> The type of keys maintained by the map.
+ * @param <V> The type of mapped values.
+ *
+ * @author Gursimar Singh
+ */
+public class HashMap<K, V> {
+    private static final int INITIAL_CAPACITY = 16; // must be a power of two
+    private static final int LOAD_FACTOR_NUMERATOR = 3;
+    private static final int LOAD_FACTOR_DENOMINATOR = 4;
+
+    private Node<K, V>[] table;
+    private int size;
+
+    /**
+     * Default constructor that initializes the map with an initial capacity.
+     */
+    public HashMap() {
+        table = buckets(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * Returns the number of key-value mappings in the map.
+     *
+     * @return The number of entries in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the map is empty.
+     *
+     * @return true if the map holds no entries, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value mapped to the given key.
+     *
+     * @param key The key to look up.
+     * @return The mapped value, or null if the key is not present.
+     */
+    public V get(K key) {
+        Node<K, V> node = findNode(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Checks if the map contains the given key.
+     *
+     * @param key The key to look up.
+     * @return true if the key is present, false otherwise.
+     */
+    public boolean containsKey(K key) {
+        return findNode(key) != null;
+    }
+
+    /**
+     * Maps the key to the value, replacing any previous mapping for the key.
+     *
+     * @param key   The key to map.
+     * @param value The value to associate with the key.
+     * @return The previous value for the key, or null if there was none.
+     */
+    public V put(K key, V value) {
+        int hash = hash(key);
+        int index = hash & (table.length - 1);
+        for (Node<K, V> node = table[index]; node != null; node = node.next) {
+            if (node.hash == hash && node.key.equals(key)) {
+                V previous = node.value;
+                node.value = value;
+                return previous;
+            }
+        }
+        table[index] = new Node<>(hash, key, value, table[index]);
+        size++;
+        if (size * LOAD_FACTOR_DENOMINATOR > table.length * LOAD_FACTOR_NUMERATOR) {
+            grow();
+        }
+        return null;
+    }
+
+    /**
+     * Removes the mapping for the given key.
+     *
+     * @param key The key to remove.
+     * @return The value that was mapped to the key, or null if the key was not present.
+     */
+    public V remove(K key) {
+        int hash = hash(key);
+        int index = hash & (table.length - 1);
+        Node<K, V> previous = null;
+        for (Node<K, V> node = table[index]; node != null; node = node.next) {
+            if (node.hash == hash && node.key.equals(key)) {
+                if (previous == null) {
+                    table[index] = node.next;
+                } else {
+                    previous.next = node.next;
+                }
+                size--;
+                return node.value;
+            }
+            previous = node;
+        }
+        return null; // Key not found
+    }
+
+    /**
+     * Removes every entry from the map.
+     */
+    public void clear() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Finds the node holding the given key.
+     *
+     * @param key The key to find.
+     * @return The node for the key, or null if not found.
+     */
+    private Node<K, V> findNode(K key) {
+        int hash = hash(key);
+        for (Node<K, V> node = table[hash & (table.length - 1)]; node != null; node = node.next) {
+            if (node.hash == hash && node.key.equals(key)) {
+                return node;
+            }
+        }
+        return null; // Key not found
+    }
+
+    /**
+     * Spreads the higher bits of the key's hash code into the lower bits used for indexing.
+     *
+     * @param key The key to hash.
+     * @return The spread hash code.
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Doubles the table and redistributes the existing nodes.
+     */
+    private void grow() {
+        Node<K, V>[] newTable = buckets(table.length * 2);
+        for (Node<K, V> head : table) {
+            Node<K, V> node = head;
+            while (node != null) {
+                Node<K, V> next = node.next;
+                int index = node.hash & (newTable.length - 1);
+                node.next = newTable[index];
+                newTable[index] = node;
+                node = next;
+            }
+        }
+        table = newTable;
+    }
+
+    /**
+     * Creates an empty bucket table.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"}) // Java cannot create an array of Node<K, V>
+    private static <K, V> Node<K, V>[] buckets(int length) {
+        return (Node<K, V>[]) new Node[length];
+    }
+
+    /**
+     * A single entry in a bucket chain.
+     */
+    private static class Node<K, V> {
+        private final int hash;
+        private final K key;
+        private V value;
+        private Node<K, V> next;
+
+        private Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+}
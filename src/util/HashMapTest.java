@@ -0,0 +1,47 @@
+package util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HashMapTest {
+
+    @Test
+    public void putAndGet() {
+        HashMap<String, Integer> map = new HashMap<>();
+        map.put("First", 1);
+        map.put("Second", 2);
+
+        assertEquals(2, map.size());
+        assertEquals(Integer.valueOf(1), map.get("First"));
+        assertEquals(Integer.valueOf(2), map.get("Second"));
+        assertNull(map.get("Third"));
+
+        // Replacing a value keeps the size the same
+        assertEquals(Integer.valueOf(1), map.put("First", 10));
+        assertEquals(2, map.size());
+        assertEquals(Integer.valueOf(10), map.get("First"));
+    }
+
+    @Test
+    public void remove() {
+        HashMap<Integer, String> map = new HashMap<>();
+        for (int i = 0; i < 1000; i++) { // forces the table to grow several times
+            map.put(i, "value" + i);
+        }
+        assertEquals(1000, map.size());
+
+        assertEquals("value500", map.remove(500));
+        assertFalse(map.containsKey(500));
+        assertNull(map.remove(500)); // removing a missing key does nothing
+        assertEquals(999, map.size());
+        assertTrue(map.containsKey(999));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+    }
+}
@@ -0,0 +1,229 @@
+package util;
+
+/**
+ * The LineTokenizer class splits a line of text into comma separated fields in one scan.
+ * Instead of creating a substring for every field, it records where each field starts and ends
+ * in arrays that are reused for every line, and offers methods to compare, trim and read numbers
+ * from a field in place. A substring is only created when a caller asks for the text of a field.
+ *
+ * The fields are the same as the ones String.split(",") returns: trailing empty fields are
+ * dropped, and a line without commas is a single field.
+ *
+ * @author Gursimar Singh
+ */
+public class LineTokenizer {
+    private static final int INITIAL_FIELDS = 8;
+    private static final char SEPARATOR = ',';
+
+    private String line;
+    private int[] starts;
+    private int[] ends;
+    private int count;
+
+    /**
+     * Creates a tokenizer with no line.
+     */
+    public LineTokenizer() {
+        starts = new int[INITIAL_FIELDS];
+        ends = new int[INITIAL_FIELDS];
+        line = "";
+        count = 0;
+    }
+
+    /**
+     * Splits a line into fields, replacing the fields of the previous line.
+     *
+     * @param line The line to split.
+     * @return The number of fields.
+     */
+    public int tokenize(String line) {
+        this.line = line;
+        count = 0;
+        int start = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == SEPARATOR) {
+                addField(start, i);
+                start = i + 1;
+            }
+        }
+        if (count == 0) {
+            addField(0, line.length()); // No separator: the whole line is one field
+            return count;
+        }
+        addField(start, line.length());
+        while (count > 0 && starts[count - 1] == ends[count - 1]) {
+            count--; // Drop trailing empty fields
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of fields of the current line.
+     *
+     * @return The number of fields.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the line the fields belong to.
+     *
+     * @return The current line.
+     */
+    public String getLine() {
+        return line;
+    }
+
+    /**
+     * Returns the index in the line of the first character of a field.
+     *
+     * @param field The field number, starting at 0.
+     * @return The start index of the field.
+     */
+    public int start(int field) {
+        checkField(field);
+        return starts[field];
+    }
+
+    /**
+     * Returns the index in the line after the last character of a field.
+     *
+     * @param field The field number, starting at 0.
+     * @return The end index of the field.
+     */
+    public int end(int field) {
+        checkField(field);
+        return ends[field];
+    }
+
+    /**
+     * Returns the text of a field exactly as it appears in the line.
+     *
+     * @param field The field number, starting at 0.
+     * @return The text of the field.
+     */
+    public String text(int field) {
+        checkField(field);
+        return line.substring(starts[field], ends[field]);
+    }
+
+    /**
+     * Returns the text of a field without leading and trailing spaces, as String.trim() would.
+     *
+     * @param field The field number, starting at 0.
+     * @return The trimmed text of the field.
+     */
+    public String trimmed(int field) {
+        checkField(field);
+        return line.substring(trimmedStart(field), trimmedEnd(field));
+    }
+
+    /**
+     * Checks if a field, exactly as it appears in the line, equals the given text ignoring case.
+     *
+     * @param field The field number, starting at 0.
+     * @param text  The text to compare with.
+     * @return true if the field matches the text, false otherwise.
+     */
+    public boolean equalsIgnoreCase(int field, String text) {
+        checkField(field);
+        int length = ends[field] - starts[field];
+        return length == text.length() && line.regionMatches(true, starts[field], text, 0, length);
+    }
+
+    /**
+     * Checks if a trimmed field equals the given text.
+     *
+     * @param field The field number, starting at 0.
+     * @param text  The text to compare with.
+     * @return true if the trimmed field is the same as the text, false otherwise.
+     */
+    public boolean trimmedEquals(int field, String text) {
+        return trimmedMatches(field, text, false);
+    }
+
+    /**
+     * Checks if a trimmed field equals the given text ignoring case.
+     *
+     * @param field The field number, starting at 0.
+     * @param text  The text to compare with.
+     * @return true if the trimmed field matches the text, false otherwise.
+     */
+    public boolean trimmedEqualsIgnoreCase(int field, String text) {
+        return trimmedMatches(field, text, true);
+    }
+
+    /**
+     * Reads a trimmed field as a non-negative whole number.
+     * A leading plus sign is allowed, as Integer.parseInt allows it.
+     *
+     * @param field The field number, starting at 0.
+     * @return The number, or -1 if the field is not a non-negative number that fits in an int.
+     */
+    public int number(int field) {
+        checkField(field);
+        int start = trimmedStart(field);
+        int end = trimmedEnd(field);
+        if (start < end && line.charAt(start) == '+') {
+            start++;
+        }
+        if (start == end) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9' || value > (Integer.MAX_VALUE - (c - '0')) / 10) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private boolean trimmedMatches(int field, String text, boolean ignoreCase) {
+        checkField(field);
+        int start = trimmedStart(field);
+        int length = trimmedEnd(field) - start;
+        return length == text.length() && line.regionMatches(ignoreCase, start, text, 0, length);
+    }
+
+    private int trimmedStart(int field) {
+        int start = starts[field];
+        int end = ends[field];
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimmedEnd(int field) {
+        int start = starts[field];
+        int end = ends[field];
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private void addField(int start, int end) {
+        if (count == starts.length) {
+            int[] biggerStarts = new int[count * 2];
+            int[] biggerEnds = new int[count * 2];
+            System.arraycopy(starts, 0, biggerStarts, 0, count);
+            System.arraycopy(ends, 0, biggerEnds, 0, count);
+            starts = biggerStarts;
+            ends = biggerEnds;
+        }
+        starts[count] = start;
+        ends[count] = end;
+        count++;
+    }
+
+    private void checkField(int field) {
+        if (field < 0 || field >= count) {
+            throw new IndexOutOfBoundsException("Field out of bounds");
+        }
+    }
+}
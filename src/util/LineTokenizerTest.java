@@ -0,0 +1,46 @@
+package util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LineTokenizerTest {
+
+    @Test
+    public void testFieldsMatchSplit() {
+        LineTokenizer tokenizer = new LineTokenizer();
+        String[] lines = {"D,1/2/2025,3", "PA", "", ",", "a,,b", "a,b,,", ",a", "T,1,2,3,4,5,6,7,8,9,10"};
+        for (String line : lines) {
+            String[] expected = line.split(",");
+            assertEquals(line, expected.length, tokenizer.tokenize(line));
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(line, expected[i], tokenizer.text(i));
+            }
+        }
+    }
+
+    @Test
+    public void testTrimmedComparisons() {
+        LineTokenizer tokenizer = new LineTokenizer();
+        tokenizer.tokenize("D , xray ,Smith");
+        assertTrue(tokenizer.trimmedEquals(0, "D"));
+        assertFalse(tokenizer.equalsIgnoreCase(0, "D"));
+        assertTrue(tokenizer.trimmedEqualsIgnoreCase(1, "XRAY"));
+        assertEquals("xray", tokenizer.trimmed(1));
+        assertEquals(" xray ", tokenizer.text(1));
+    }
+
+    @Test
+    public void testNumbers() {
+        LineTokenizer tokenizer = new LineTokenizer();
+        tokenizer.tokenize("12, +3 ,-1,x,,99999999999");
+        assertEquals(12, tokenizer.number(0));
+        assertEquals(3, tokenizer.number(1));
+        assertEquals(-1, tokenizer.number(2));
+        assertEquals(-1, tokenizer.number(3));
+        assertEquals(-1, tokenizer.number(4));
+        assertEquals(-1, tokenizer.number(5));
+    }
+}
@@ -1,10 +1,13 @@
 package util;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.function.Predicate;
 
 /**
  * The List class represents a dynamic collection of elements of any type.
  * It provides methods to add, remove, and manipulate elements, as well as sort them
  * by various criteria. This class automatically grows the internal array when it reaches capacity.
+ * Elements are moved with System.arraycopy, so bulk operations run in linear time.
  *
  * @param <E> The type of elements stored in the list (e.g., Appointment, Integer, String, etc.).
  *
@@ -20,7 +23,19 @@ public class List<E> implements Iterable<E>{
      * Default constructor that initializes the list with an initial capacity.
      */
     public List() {
-        objects = (E[]) new Object[INITIAL_CAPACITY]; // Create an array of generic type
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor that initializes the list with room for the given number of elements.
+     *
+     * @param initialCapacity The number of elements the list can hold before it grows.
+     */
+    public List(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        }
+        objects = array(initialCapacity); // Create an array of generic type
         this.size = 0;
     }
 
@@ -54,11 +69,31 @@ public class List<E> implements Iterable<E>{
      * Grows the internal array by increasing its capacity.
      */
     private void grow() {
-        E[] newObjects = (E[]) new Object[objects.length * 2]; // Double the array size
-        for (int i = 0; i < size; i++) {
-            newObjects[i] = objects[i];
+        ensureCapacity(Math.max(objects.length * 2, INITIAL_CAPACITY)); // Double the array size
+    }
+
+    /**
+     * Makes sure the list can hold at least the given number of elements without growing again.
+     *
+     * @param minCapacity The number of elements the list must be able to hold.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > objects.length) {
+            E[] newObjects = array(minCapacity);
+            System.arraycopy(objects, 0, newObjects, 0, size);
+            objects = newObjects;
+        }
+    }
+
+    /**
+     * Shrinks the internal array so that its capacity matches the size of the list.
+     */
+    public void trimToSize() {
+        if (objects.length > size) {
+            E[] newObjects = array(size);
+            System.arraycopy(objects, 0, newObjects, 0, size);
+            objects = newObjects;
         }
-        objects = newObjects;
     }
 
     /**
@@ -84,6 +119,19 @@ public class List<E> implements Iterable<E>{
         size++;
     }
 
+    /**
+     * Adds every element of another list to the end of this list.
+     * The array grows at most once.
+     *
+     * @param other The list whose elements are added.
+     */
+    public void addAll(List<? extends E> other) {
+        int count = other.size;
+        ensureCapacity(size + count);
+        System.arraycopy(other.objects, 0, objects, size, count);
+        size += count;
+    }
+
     /**
      * Removes the specified element from the list.
      *
@@ -92,11 +140,64 @@ public class List<E> implements Iterable<E>{
     public void remove(E e) {
         int index = find(e);
         if (index == -1) return; // Element not found
-        for (int i = index; i < size - 1; i++) {
-            objects[i] = objects[i + 1]; // Shift elements to the left
+        removeAt(index);
+    }
+
+    /**
+     * Removes the element at the specified index, shifting later elements to the left.
+     *
+     * @param index The index of the element to remove.
+     * @return The removed element.
+     */
+    public E removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds");
+        }
+        E removed = objects[index];
+        System.arraycopy(objects, index + 1, objects, index, size - index - 1); // Shift elements to the left
+        objects[--size] = null; // make last element null
+        return removed;
+    }
+
+    /**
+     * Removes every element that matches the filter, keeping the order of the others.
+     * The list is compacted in a single pass.
+     *
+     * @param filter The condition an element must meet to be removed.
+     * @return true if any element was removed, false otherwise.
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!filter.test(objects[i])) {
+                objects[kept++] = objects[i];
+            }
+        }
+        boolean removed = kept != size;
+        for (int i = kept; i < size; i++) {
+            objects[i] = null; // let removed elements be garbage collected
+        }
+        size = kept;
+        return removed;
+    }
+
+    /**
+     * Removes every element from the list.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            objects[i] = null;
         }
-        objects[size - 1] = null; // make last element null
-        size--;
+        size = 0;
+    }
+
+    /**
+     * Sorts the list in place with a stable merge sort.
+     *
+     * @param order The comparator giving the order of the elements.
+     */
+    public void sort(Comparator<? super E> order) {
+        util.sort.mergeSort(objects, size, order);
     }
 
     /**
@@ -128,7 +229,7 @@ public class List<E> implements Iterable<E>{
      */
     @Override
     public Iterator<E> iterator() {
-        return new util.List.ListIterator();
+        return new ListIterator();
     }
 
     /**
@@ -154,6 +255,14 @@ public class List<E> implements Iterable<E>{
         return find(e);
     }
 
+    /**
+     * Creates the array that holds the elements. Only elements of type E are ever stored in it.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> E[] array(int length) {
+        return (E[]) new Object[length];
+    }
+
     /**
      * A private inner class that implements the Iterator interface for the List class.
      */
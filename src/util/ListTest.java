@@ -1,6 +1,10 @@
 package util;
 
 import org.junit.Test;
+
+import java.util.Comparator;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -51,4 +55,68 @@ public class ListTest {
         // Ensure the list size remains unchanged
         assertTrue(list.size() == 2);
     }
+
+    @Test
+    public void removeAt() {
+        List<String> list = new List<>();
+        list.add("First");
+        list.add("Second");
+        list.add("Third");
+
+        assertEquals("First", list.removeAt(0));
+        assertTrue(list.size() == 2);
+        assertTrue(list.get(0).equals("Second"));
+        assertTrue(list.get(1).equals("Third"));
+    }
+
+    @Test
+    public void addAllAndClear() {
+        List<Integer> first = new List<>();
+        List<Integer> second = new List<>();
+        for (int i = 0; i < 10; i++) {
+            first.add(i);
+            second.add(i + 10);
+        }
+
+        first.addAll(second);
+        assertTrue(first.size() == 20);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(Integer.valueOf(i), first.get(i));
+        }
+
+        first.clear();
+        assertTrue(first.isEmpty());
+        first.trimToSize();
+        first.add(1); // the list still grows after being trimmed to zero
+        assertTrue(first.size() == 1);
+    }
+
+    @Test
+    public void removeIf() {
+        List<Integer> list = new List<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        assertTrue(list.removeIf(value -> value % 2 == 0));
+        assertTrue(list.size() == 5);
+        assertEquals(Integer.valueOf(1), list.get(0));
+        assertEquals(Integer.valueOf(9), list.get(4));
+        assertFalse(list.removeIf(value -> value > 100));
+    }
+
+    @Test
+    public void sort() {
+        List<String> list = new List<>();
+        list.add("pear");
+        list.add("fig");
+        list.add("apple");
+        list.add("kiwi");
+
+        list.sort(Comparator.comparingInt(String::length)); // stable: pear stays before kiwi
+        assertEquals("fig", list.get(0));
+        assertEquals("pear", list.get(1));
+        assertEquals("kiwi", list.get(2));
+        assertEquals("apple", list.get(3));
+    }
 }
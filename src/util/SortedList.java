@@ -0,0 +1,273 @@
+package util;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The SortedList class keeps its elements in the order given by a Comparator at all times.
+ * Elements are stored in a treap (a binary search tree balanced by random priorities),
+ * so adding and removing an element take O(log n) expected time, and iterating visits
+ * the elements in sorted order without any sorting work.
+ *
+ * Elements that compare equal are kept in the order they were added. Removal looks for the
+ * exact element object (by reference) among the elements that compare equal to it.
+ *
+ * @param <E> The type of elements stored in the list.
+ *
+ * @author Gursimar Singh
+ */
+public class SortedList<E> implements Iterable<E> {
+    private final Comparator<? super E> order;
+    private Node<E> root;
+    private int size;
+    private int seed; // state of the xorshift generator used for node priorities
+
+    /**
+     * Creates an empty list ordered by the given comparator.
+     *
+     * @param order The comparator giving the order of the elements.
+     */
+    public SortedList(Comparator<? super E> order) {
+        this.order = order;
+        this.root = null;
+        this.size = 0;
+        this.seed = 0x2545F491;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return The number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, false if not
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds an element at its sorted position, after any elements that compare equal to it.
+     *
+     * @param e The element to add.
+     */
+    public void add(E e) {
+        root = insert(root, new Node<>(e, nextPriority()));
+        size++;
+    }
+
+    /**
+     * Adds elements that are already in order to an empty list, in linear time.
+     * Each element gets a random priority as add() would give it, and the treap is built over the
+     * elements in one pass (as a Cartesian tree), so it is shaped as if they had been added one by one.
+     *
+     * @param sorted The elements, in the order of the list; elements that compare equal stay in array order.
+     * @param count  The number of elements to add from the start of the array.
+     * @throws IllegalStateException if the list is not empty.
+     */
+    public void addAllSorted(E[] sorted, int count) {
+        if (size != 0) {
+            throw new IllegalStateException("The list is not empty");
+        }
+        Node<E>[] path = nodes(16); // the right spine of the tree built so far
+        int depth = 0;
+        for (int i = 0; i < count; i++) {
+            Node<E> node = new Node<>(sorted[i], nextPriority());
+            Node<E> last = null;
+            while (depth > 0 && path[depth - 1].priority < node.priority) {
+                last = path[--depth];
+            }
+            node.left = last;
+            if (depth > 0) {
+                path[depth - 1].right = node;
+            }
+            if (depth == path.length) {
+                Node<E>[] bigger = nodes(path.length * 2);
+                System.arraycopy(path, 0, bigger, 0, depth);
+                path = bigger;
+            }
+            path[depth++] = node;
+        }
+        root = depth > 0 ? path[0] : null;
+        size = count;
+    }
+
+    /**
+     * Removes the specified element object from the list.
+     *
+     * @param e The element to remove.
+     * @return true if the element was found and removed, false otherwise.
+     */
+    public boolean remove(E e) {
+        int before = size;
+        root = delete(root, e);
+        return size != before;
+    }
+
+    /**
+     * Removes every element from the list.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns an iterator that visits the elements in sorted order.
+     *
+     * @return An iterator for the list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new TreeIterator();
+    }
+
+    private Node<E> insert(Node<E> node, Node<E> added) {
+        if (node == null) {
+            return added;
+        }
+        if (order.compare(added.value, node.value) < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else { // equal elements go to the right so they stay in insertion order
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        return node;
+    }
+
+    private Node<E> delete(Node<E> node, E e) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = order.compare(e, node.value);
+        if (comparison < 0) {
+            node.left = delete(node.left, e);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, e);
+        } else if (node.value == e) {
+            size--;
+            return merge(node.left, node.right);
+        } else {
+            // Equal elements may sit on either side after rotations
+            int before = size;
+            node.left = delete(node.left, e);
+            if (size == before) {
+                node.right = delete(node.right, e);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Joins two subtrees where every element of left comes before every element of right.
+     */
+    private Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        return right;
+    }
+
+    private Node<E> rotateRight(Node<E> node) {
+        Node<E> child = node.left;
+        node.left = child.right;
+        child.right = node;
+        return child;
+    }
+
+    private Node<E> rotateLeft(Node<E> node) {
+        Node<E> child = node.right;
+        node.right = child.left;
+        child.left = node;
+        return child;
+    }
+
+    private int nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+    /**
+     * Creates an array of nodes, for a path or a stack of the tree.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"}) // Java cannot create an array of Node<E>
+    private static <E> Node<E>[] nodes(int length) {
+        return (Node<E>[]) new Node[length];
+    }
+
+    /**
+     * A node of the treap.
+     */
+    private static class Node<E> {
+        private final E value;
+        private final int priority;
+        private Node<E> left;
+        private Node<E> right;
+
+        private Node(E value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * An in-order iterator that keeps the path to the next node on a stack.
+     */
+    private class TreeIterator implements Iterator<E> {
+        private Node<E>[] stack = nodes(16);
+        private int depth = 0;
+
+        private TreeIterator() {
+            pushLeftPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public E next() {
+            if (depth == 0) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = stack[--depth];
+            pushLeftPath(node.right);
+            return node.value;
+        }
+
+        private void pushLeftPath(Node<E> node) {
+            while (node != null) {
+                if (depth == stack.length) {
+                    Node<E>[] bigger = nodes(stack.length * 2);
+                    System.arraycopy(stack, 0, bigger, 0, depth);
+                    stack = bigger;
+                }
+                stack[depth++] = node;
+                node = node.left;
+            }
+        }
+    }
+}
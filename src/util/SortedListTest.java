@@ -0,0 +1,94 @@
+package util;
+
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SortedListTest {
+
+    @Test
+    public void addKeepsOrder() {
+        SortedList<Integer> list = new SortedList<>(Comparator.naturalOrder());
+        int[] values = {5, 3, 9, 1, 7, 3};
+        for (int value : values) {
+            list.add(value);
+        }
+
+        assertEquals(6, list.size());
+        int previous = Integer.MIN_VALUE;
+        for (int value : list) {
+            assertTrue(value >= previous);
+            previous = value;
+        }
+    }
+
+    @Test
+    public void equalElementsStayInInsertionOrder() {
+        SortedList<String> list = new SortedList<>(Comparator.comparingInt(String::length));
+        list.add("bb");
+        list.add("a");
+        list.add("cc");
+        list.add("dd");
+
+        Iterator<String> iterator = list.iterator();
+        assertEquals("a", iterator.next());
+        assertEquals("bb", iterator.next());
+        assertEquals("cc", iterator.next());
+        assertEquals("dd", iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void removeTakesTheExactElement() {
+        SortedList<String> list = new SortedList<>(Comparator.comparingInt(String::length));
+        String first = new String("xx");
+        String second = new String("xx");
+        list.add(first);
+        list.add("y");
+        list.add(second);
+
+        assertTrue(list.remove(second));
+        assertFalse(list.remove(second)); // already removed
+        assertEquals(2, list.size());
+
+        Iterator<String> iterator = list.iterator();
+        assertEquals("y", iterator.next());
+        assertSame(first, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void addAllSortedBuildsAWorkingTree() {
+        SortedList<Integer> list = new SortedList<>(Comparator.naturalOrder());
+        Integer[] values = new Integer[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 2;
+        }
+        list.addAllSorted(values, values.length);
+        assertEquals(1000, list.size());
+
+        list.add(7);
+        assertTrue(list.remove(values[500]));
+        int previous = -1;
+        int count = 0;
+        for (int value : list) {
+            assertTrue(value > previous);
+            previous = value;
+            count++;
+        }
+        assertEquals(1000, count);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void addAllSortedNeedsAnEmptyList() {
+        SortedList<Integer> list = new SortedList<>(Comparator.naturalOrder());
+        list.add(1);
+        list.addAllSorted(new Integer[] {2}, 1);
+    }
+}
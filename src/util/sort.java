@@ -3,108 +3,95 @@ package util;
 import model.Appointment;
 import model.Provider;
 
+import java.util.Comparator;
+
 
 /**
  * Utility class that provides sorting methods for lists of appointments and providers.
  * This class contains static methods to sort appointments and providers based on
  * various criteria such as date, patient, and provider information.
  *
+ * Sorting is a stable merge sort performed directly on the list's backing array,
+ * so elements that compare equal keep their relative order and a sort of n elements
+ * takes O(n log n) comparisons.
+ *
  * @author Gursimar Singh
  */
 public class sort {
+    // Runs up to this length are sorted with insertion sort before merging
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
     /**
-     * Sorts a list of appointments based on the specified key.
-     *
-     * @param list The list of appointments to be sorted.
-     * @param key The sorting key, which determines the sorting criteria.
-     *            'A' for appointment date, 'P' for patient,
-     *            'L' for county name, 'O' for office appointments,
-     *            and 'I' for imaging appointments.
+     * Orders appointments by appointment date, then time, then the provider's last name (PA command).
      */
-    public static void appointment(List<Appointment> list, char key) {
-        List<Appointment> sortedList = new List<>();
-
-        while (!list.isEmpty()) {
-            Appointment smallest = list.get(0);
+    public static final Comparator<Appointment> BY_DATE_TIME_PROVIDER = (current, other) -> {
+        int comparison = compareDateAndTime(current, other);
+        if (comparison == 0) { // If the dates and timeslots are the same
+            comparison = current.getProvider().getProfile().getLname().compareTo(other.getProvider().getProfile().getLname());
+        }
+        return comparison;
+    };
 
-            for (int i = 1; i < list.size(); i++) {
-                Appointment current = list.get(i);
-                int comparison = compareAppointments(current, smallest, key);
+    /**
+     * Orders appointments by patient profile, then date, then time (PP and PS commands).
+     */
+    public static final Comparator<Appointment> BY_PATIENT = (current, other) -> {
+        int comparison = current.getPatient().compareTo(other.getPatient()); // Compare by patient profile
+        if (comparison == 0) { // If profiles are the same
+            comparison = compareDateAndTime(current, other);
+        }
+        return comparison;
+    };
 
-                if (comparison < 0) {
-                    smallest = current; // Update the smallest appointment
-                }
+    /**
+     * Orders appointments by the county of the provider's location, then date, then time,
+     * then patient profile (PL, PO and PI commands).
+     */
+    public static final Comparator<Appointment> BY_COUNTY = (current, other) -> {
+        int comparison = ((Provider) current.getProvider()).getLocation().getCounty().compareTo(
+                ((Provider) other.getProvider()).getLocation().getCounty());
+        if (comparison == 0) {
+            comparison = compareDateAndTime(current, other);
+            if (comparison == 0) {
+                comparison = current.getPatient().compareTo(other.getPatient()); // Compare by patient profile
             }
-
-            list.remove(smallest); // Remove the smallest appointment from the original list
-            sortedList.add(smallest); // Add it to the sorted list
         }
+        return comparison;
+    };
 
-        // Transfer sorted elements back to the original list
-        while (!sortedList.isEmpty()) {
-            Appointment appointment = sortedList.get(0);
-            sortedList.remove(appointment);
-            list.add(appointment);
+    /**
+     * Orders providers by last name, then first name.
+     */
+    public static final Comparator<Provider> BY_PROVIDER_NAME = (current, other) -> {
+        int comparison = current.getProfile().getLname().compareTo(other.getProfile().getLname());
+        if (comparison == 0) { // Compare first names if last names are equal
+            comparison = current.getProfile().getFname().compareTo(other.getProfile().getFname());
         }
-    }
+        return comparison;
+    };
 
     /**
-     * Compares two appointments based on the specified sorting key.
+     * Sorts a list of appointments in the order given by the comparator.
      *
-     * @param current The current appointment to compare.
-     * @param smallest The smallest appointment found so far.
-     * @param key The sorting key.
-     * @return A negative integer, zero, or a positive integer as the current appointment
-     *         is less than, equal to, or greater than the smallest appointment.
+     * @param list The list of appointments to be sorted.
+     * @param order The sorting order, e.g. BY_DATE_TIME_PROVIDER, BY_PATIENT or BY_COUNTY.
      */
-    private static int compareAppointments(Appointment current, Appointment smallest, char key) {
-        int comparison = 0;
-
-        switch (key) {
-            case 'A': // Sort by appointment date, then time, then provider's name
-                comparison = current.getDate().compareTo(smallest.getDate());
-                if (comparison == 0) { // If the dates are the same
-                    comparison = current.getTimeslot().compareTo(smallest.getTimeslot());
-                    if (comparison == 0) { // If the timeslots are the same
-                        comparison = current.getProvider().getProfile().getLname().compareTo(smallest.getProvider().getProfile().getLname());
-                    }
-                }
-                break;
-            case 'P': // Sort by patient (patient profile comparison can be adjusted as needed)
-                comparison = current.getPatient().compareTo(smallest.getPatient()); // Compare by patient profile
-                if (comparison == 0) { // If profiles are the same
-                    comparison = compareDateAndTime(current, smallest); // Use the new method
-                }
-                break;
-            case 'L': // Sort by county name, then date, then time
-            case 'O': // Sort office appointments (PO command)
-            case 'I': // Sort imaging appointments (PI command)
-                comparison = ((Provider) current.getProvider()).getLocation().getCounty().compareTo(
-                        ((Provider) smallest.getProvider()).getLocation().getCounty());
-                if (comparison == 0) {
-                    comparison = compareDateAndTime(current, smallest);
-                    if (comparison == 0){
-                        comparison = current.getPatient().compareTo(smallest.getPatient()); // Compare by patient profile
-                    }
-                }
-                break;
-        }
-
-        return comparison;
+    public static void appointment(List<Appointment> list, Comparator<? super Appointment> order) {
+        list.sort(order);
     }
 
     /**
      * Compares two appointments based on their date and time.
      *
      * @param current The current appointment to compare.
-     * @param smallest The smallest appointment found so far.
+     * @param other The appointment to compare against.
      * @return A negative integer, zero, or a positive integer as the current appointment
-     *         is less than, equal to, or greater than the smallest appointment.
+     *         is less than, equal to, or greater than the other appointment.
      */
-    private static int compareDateAndTime(Appointment current, Appointment smallest) {
-        int comparison = current.getDate().compareTo(smallest.getDate());
+    private static int compareDateAndTime(Appointment current, Appointment other) {
+        int comparison = current.getDate().compareTo(other.getDate());
         if (comparison == 0) {
-            comparison = current.getTimeslot().compareTo(smallest.getTimeslot());
+            comparison = current.getTimeslot().compareTo(other.getTimeslot());
         }
         return comparison;
     }
@@ -115,40 +102,75 @@ public class sort {
      * @param list The list of providers to be sorted.
      */
     public static void provider(List<Provider> list) {
-        List<Provider> sortedList = new List<>();
-
-        while (!list.isEmpty()) {
-            Provider smallest = list.get(0);
+        list.sort(BY_PROVIDER_NAME);
+    }
 
-            for (int i = 1; i < list.size(); i++) {
-                Provider current = list.get(i);
+    /**
+     * Sorts the first n elements of an array with a stable merge sort.
+     * A single buffer of n elements is allocated for the whole sort.
+     *
+     * @param elements The array to sort in place.
+     * @param n The number of elements to sort.
+     * @param order The comparator giving the order of the elements.
+     */
+    static <T> void mergeSort(Object[] elements, int n, Comparator<? super T> order) {
+        if (n < 2) {
+            return;
+        }
+        Object[] buffer = new Object[n];
+        mergeSort(elements, buffer, 0, n, order);
+    }
 
-                // Compare last names
-                int lastNameComparison = current.getProfile().getLname().compareTo(smallest.getProfile().getLname());
+    /**
+     * Recursively sorts elements[from, to) using buffer as scratch space.
+     */
+    private static <T> void mergeSort(Object[] elements, Object[] buffer, int from, int to, Comparator<? super T> order) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(elements, from, to, order);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(elements, buffer, from, middle, order);
+        mergeSort(elements, buffer, middle, to, order);
 
-                if (lastNameComparison < 0) {
-                    smallest = current;
-                } else if (lastNameComparison == 0) {
-                    // Compare first names if last names are equal
-                    int firstNameComparison = current.getProfile().getFname().compareTo(smallest.getProfile().getFname());
+        // Already in order: the two halves do not need to be merged
+        if (compare(order, elements[middle - 1], elements[middle]) <= 0) {
+            return;
+        }
 
-                    if (firstNameComparison < 0) {
-                        smallest = current;
-                    }
-                }
+        System.arraycopy(elements, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            // Take from the left half on ties so equal elements keep their order
+            if (right >= to || (left < middle && compare(order, buffer[left], buffer[right]) <= 0)) {
+                elements[i] = buffer[left++];
+            } else {
+                elements[i] = buffer[right++];
             }
-
-            list.remove(smallest); // Remove the smallest provider from the original list
-            sortedList.add(smallest); // Add it to the sorted list
         }
+    }
 
-        // Transfer sorted elements back to the original list
-        while (!sortedList.isEmpty()) {
-            Provider provider = sortedList.get(0);
-            sortedList.remove(provider);
-            list.add(provider);
+    /**
+     * Sorts elements[from, to) with a stable insertion sort.
+     */
+    private static <T> void insertionSort(Object[] elements, int from, int to, Comparator<? super T> order) {
+        for (int i = from + 1; i < to; i++) {
+            Object current = elements[i];
+            int j = i - 1;
+            while (j >= from && compare(order, elements[j], current) > 0) {
+                elements[j + 1] = elements[j];
+                j--;
+            }
+            elements[j + 1] = current;
         }
     }
 
-
+    /**
+     * Compares two elements of the Object[] array or merge buffer, which only ever hold elements of type T.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int compare(Comparator<? super T> order, Object first, Object second) {
+        return order.compare((T) first, (T) second);
+    }
 }
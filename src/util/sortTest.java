@@ -0,0 +1,176 @@
+package util;
+
+import model.Appointment;
+import model.Doctor;
+import model.Imaging;
+import model.Location;
+import model.Patient;
+import model.Profile;
+import model.Provider;
+import model.Radiology;
+import model.Specialty;
+import model.Technician;
+import model.Timeslot;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class sortTest {
+    private static final Date DOB = new Date(1, 1, 1980);
+
+    private final Doctor patel = new Doctor(new Profile("ANDREW", "PATEL", DOB), Location.BRIDGEWATER, Specialty.FAMILY, "01");
+    private final Doctor kaur = new Doctor(new Profile("TOM", "KAUR", DOB), Location.PRINCETON, Specialty.ALLERGIST, "54");
+    private final Technician lin = new Technician(new Profile("FRANK", "LIN", DOB), Location.EDISON, 120);
+    private final Provider[] providers = {patel, kaur, lin};
+
+    private static Patient patient(String fname, String lname, Date dob) {
+        return new Patient(new Profile(fname, lname, dob));
+    }
+
+    private static <T> List<T> listOf(T[] elements) {
+        List<T> list = new List<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Sorts a copy of the input and checks that it is in order and that equal elements kept their input order.
+     */
+    private static <T> List<T> assertSortedStably(List<T> input, Comparator<? super T> order) {
+        IdentityHashMap<T, Integer> positions = new IdentityHashMap<>();
+        List<T> sorted = new List<>();
+        for (int i = 0; i < input.size(); i++) {
+            positions.put(input.get(i), i);
+            sorted.add(input.get(i));
+        }
+        sorted.sort(order);
+        assertEquals(input.size(), sorted.size());
+        for (int i = 1; i < sorted.size(); i++) {
+            int comparison = order.compare(sorted.get(i - 1), sorted.get(i));
+            assertTrue(comparison <= 0);
+            if (comparison == 0) {
+                assertTrue(positions.get(sorted.get(i - 1)) < positions.get(sorted.get(i)));
+            }
+        }
+        return sorted;
+    }
+
+    private List<Appointment> randomAppointments(int count, long seed) {
+        Random random = new Random(seed);
+        List<Appointment> appointments = new List<>();
+        for (int i = 0; i < count; i++) {
+            Date date = new Date(11, 4 + random.nextInt(3), 2024);
+            Timeslot timeslot = Timeslot.ofSlot(1 + random.nextInt(3));
+            Patient patient = patient("P" + random.nextInt(3), "DOE", DOB);
+            Provider provider = providers[random.nextInt(providers.length)];
+            appointments.add(provider instanceof Technician technician
+                    ? new Imaging(date, timeslot, patient, technician, Radiology.XRAY)
+                    : new Appointment(date, timeslot, patient, provider));
+        }
+        return appointments;
+    }
+
+    @Test
+    public void testEqualKeysKeepTheirInputOrder() {
+        Random random = new Random(7);
+        Integer[][] records = new Integer[1000][];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new Integer[] {random.nextInt(10), i}; // Many records share a key
+        }
+        List<Integer[]> sorted = assertSortedStably(listOf(records), Comparator.comparing((Integer[] record) -> record[0]));
+        for (int i = 1; i < sorted.size(); i++) {
+            if (sorted.get(i - 1)[0].equals(sorted.get(i)[0])) {
+                assertTrue(sorted.get(i - 1)[1] < sorted.get(i)[1]);
+            }
+        }
+    }
+
+    @Test
+    public void testSortsEveryLengthAroundTheInsertionSortThreshold() {
+        for (int n = 0; n <= 40; n++) {
+            Integer[][] records = new Integer[n][];
+            for (int i = 0; i < n; i++) {
+                records[i] = new Integer[] {(i * 17) % 5, i};
+            }
+            assertSortedStably(listOf(records), Comparator.comparing((Integer[] record) -> record[0]));
+        }
+    }
+
+    @Test
+    public void testByDateTimeProvider() {
+        Patient john = patient("John", "Doe", DOB);
+        Appointment laterDay = new Appointment(new Date(11, 5, 2024), Timeslot.ofSlot(1), john, kaur);
+        Appointment laterSlot = new Appointment(new Date(11, 4, 2024), Timeslot.ofSlot(2), john, kaur);
+        Appointment kaurFirst = new Appointment(new Date(11, 4, 2024), Timeslot.ofSlot(1), john, kaur);
+        Appointment patelSecond = new Appointment(new Date(11, 4, 2024), Timeslot.ofSlot(1), john, patel);
+        List<Appointment> list = listOf(new Appointment[] {laterDay, patelSecond, laterSlot, kaurFirst});
+        sort.appointment(list, sort.BY_DATE_TIME_PROVIDER);
+        assertSame(kaurFirst, list.get(0));
+        assertSame(patelSecond, list.get(1));
+        assertSame(laterSlot, list.get(2));
+        assertSame(laterDay, list.get(3));
+
+        assertSortedStably(randomAppointments(500, 1), sort.BY_DATE_TIME_PROVIDER);
+    }
+
+    @Test
+    public void testByPatient() {
+        Appointment roe = new Appointment(new Date(11, 4, 2024), Timeslot.ofSlot(1), patient("Jane", "Roe", DOB), patel);
+        Appointment doeLater = new Appointment(new Date(11, 5, 2024), Timeslot.ofSlot(1), patient("John", "Doe", DOB), patel);
+        Appointment doeEarlier = new Appointment(new Date(11, 4, 2024), Timeslot.ofSlot(2), patient("John", "Doe", DOB), kaur);
+        Appointment doeOlder = new Appointment(new Date(11, 6, 2024), Timeslot.ofSlot(1), patient("John", "Doe", new Date(1, 1, 1970)), kaur);
+        Appointment ann = new Appointment(new Date(11, 6, 2024), Timeslot.ofSlot(3), patient("Ann", "Doe", DOB), kaur);
+        List<Appointment> list = listOf(new Appointment[] {roe, doeLater, doeEarlier, doeOlder, ann});
+        sort.appointment(list, sort.BY_PATIENT);
+        assertSame(ann, list.get(0));
+        assertSame(doeOlder, list.get(1));
+        assertSame(doeEarlier, list.get(2));
+        assertSame(doeLater, list.get(3));
+        assertSame(roe, list.get(4));
+
+        assertSortedStably(randomAppointments(500, 2), sort.BY_PATIENT);
+    }
+
+    @Test
+    public void testByCounty() {
+        Patient john = patient("John", "Doe", DOB);
+        Patient ann = patient("Ann", "Doe", DOB);
+        Appointment mercer = new Appointment(new Date(11, 4, 2024), Timeslot.ofSlot(1), john, kaur);
+        Appointment somerset = new Appointment(new Date(11, 4, 2024), Timeslot.ofSlot(1), ann, patel);
+        Appointment middlesexLater = new Imaging(new Date(11, 5, 2024), Timeslot.ofSlot(1), ann, lin, Radiology.XRAY);
+        Appointment middlesexJohn = new Imaging(new Date(11, 4, 2024), Timeslot.ofSlot(2), john, lin, Radiology.XRAY);
+        Appointment middlesexAnn = new Imaging(new Date(11, 4, 2024), Timeslot.ofSlot(2), ann, lin, Radiology.CATSCAN);
+        List<Appointment> list = listOf(new Appointment[] {somerset, middlesexLater, middlesexJohn, mercer, middlesexAnn});
+        sort.appointment(list, sort.BY_COUNTY);
+        assertSame(mercer, list.get(0));
+        assertSame(middlesexAnn, list.get(1));
+        assertSame(middlesexJohn, list.get(2));
+        assertSame(middlesexLater, list.get(3));
+        assertSame(somerset, list.get(4));
+
+        assertSortedStably(randomAppointments(500, 3), sort.BY_COUNTY);
+    }
+
+    @Test
+    public void testByProviderName() {
+        Doctor benJerry = new Doctor(new Profile("BEN", "JERRY", DOB), Location.CLARK, Specialty.FAMILY, "02");
+        Technician garyJerry = new Technician(new Profile("GARY", "JERRY", DOB), Location.CLARK, 100);
+        Doctor benJerryAgain = new Doctor(new Profile("BEN", "JERRY", new Date(1, 1, 1990)), Location.EDISON, Specialty.FAMILY, "03");
+        List<Provider> list = listOf(new Provider[] {lin, garyJerry, patel, benJerry, kaur, benJerryAgain});
+        sort.provider(list);
+        assertSame(benJerry, list.get(0));
+        assertSame(benJerryAgain, list.get(1)); // Equal names keep their order
+        assertSame(garyJerry, list.get(2));
+        assertSame(kaur, list.get(3));
+        assertSame(lin, list.get(4));
+        assertSame(patel, list.get(5));
+    }
+}